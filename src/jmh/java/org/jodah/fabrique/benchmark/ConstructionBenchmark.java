@@ -0,0 +1,87 @@
+package org.jodah.fabrique.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jodah.fabrique.AbstractModule;
+import org.jodah.fabrique.Inject;
+import org.jodah.fabrique.ObjectFactory;
+import org.jodah.fabrique.ProvisionEngine;
+import org.jodah.fabrique.ProvisionHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares unscoped provisioning through generated construction invokers against hand-written
+ * construction of the same object graph.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructionBenchmark {
+  private ProvisionHandle<Service> handle;
+
+  /** Dependency without dependencies */
+  public static class Repository {
+  }
+
+  /** Type constructed with a dependency */
+  public static class Service {
+    final Repository repository;
+
+    /** Creates a new Service object. */
+    @Inject
+    public Service(Repository repository) {
+      this.repository = repository;
+    }
+  }
+
+  /**
+   * Loads bindings and selects the generated engine.
+   */
+  @Setup
+  public void setup() {
+    ObjectFactory.setProvisionEngine(ProvisionEngine.GENERATED);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Repository.class);
+        bind(Service.class);
+      }
+    });
+    handle = ObjectFactory.handle(Service.class);
+  }
+
+  /**
+   * Constructs the graph by hand.
+   */
+  @Benchmark
+  public Service handWritten() {
+    return new Service(new Repository());
+  }
+
+  /**
+   * Provisions the graph through the factory.
+   */
+  @Benchmark
+  public Service getInstance() {
+    return ObjectFactory.getInstance(Service.class);
+  }
+
+  /**
+   * Provisions the graph through a pre-resolved handle.
+   */
+  @Benchmark
+  public Service handle() {
+    return handle.get();
+  }
+}
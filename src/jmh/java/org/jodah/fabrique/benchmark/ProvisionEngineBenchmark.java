@@ -0,0 +1,88 @@
+package org.jodah.fabrique.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jodah.fabrique.AbstractModule;
+import org.jodah.fabrique.Inject;
+import org.jodah.fabrique.ObjectFactory;
+import org.jodah.fabrique.ProvisionEngine;
+import org.jodah.fabrique.ProvisionHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares each {@link ProvisionEngine} when provisioning a type with constructor, field and method
+ * injection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProvisionEngineBenchmark {
+  @Param({ "GENERATED", "METHOD_HANDLE", "REFLECTION" })
+  public ProvisionEngine engine;
+  private ProvisionHandle<Service> handle;
+
+  /** Dependency without dependencies */
+  public static class Repository {
+  }
+
+  /** Dependency without dependencies */
+  public static class Clock {
+  }
+
+  /** Type with constructor, field and method injection */
+  public static class Service {
+    final Repository repository;
+    @Inject
+    public Clock clock;
+    Repository secondary;
+
+    /** Creates a new Service object. */
+    @Inject
+    public Service(Repository repository) {
+      this.repository = repository;
+    }
+
+    /** Injected setter */
+    @Inject
+    public void setSecondary(Repository secondary) {
+      this.secondary = secondary;
+    }
+  }
+
+  /**
+   * Loads bindings and selects the engine.
+   */
+  @Setup
+  public void setup() {
+    ObjectFactory.setProvisionEngine(engine);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Repository.class);
+        bind(Clock.class);
+        bind(Service.class);
+      }
+    });
+    handle = ObjectFactory.handle(Service.class);
+  }
+
+  /**
+   * Provisions the type through a pre-resolved handle.
+   */
+  @Benchmark
+  public Service provision() {
+    return handle.get();
+  }
+}
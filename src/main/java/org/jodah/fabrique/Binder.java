@@ -137,6 +137,30 @@ import org.jodah.fabrique.matcher.Matcher;
  * via an optional parameter set. Invoking the default constructor or provider 'get' method can be
  * performed via a shortcut method: {@link ObjectObjectFactory#getDefaultInstance(Class)}.
  * 
+ * <h4>Factory Interfaces</h4>
+ * 
+ * <p>
+ * A factory interface can be bound in place of passing untyped arguments to the ObjectFactory. Each
+ * method of the interface returns the type it produces, and its parameters are the construction
+ * arguments. The ObjectFactory generates an implementation of the interface which constructs the
+ * returned type via its binding, using the constructor or provider 'get' method whose parameters
+ * match the method's parameters.
+ * 
+ * <pre>
+ * public interface OrderFactory {
+ *   Order create(long id, String sku);
+ * }
+ * 
+ * bind(Order.class).to(OrderImpl.class).forOptionalParams(long.class, String.class);
+ * bind(OrderFactory.class).toFactory();
+ * 
+ * Order order = ObjectFactory.getInstance(OrderFactory.class).create(5, "sku");</pre>
+ * 
+ * <p>
+ * The matching construction method for each factory method is resolved when the binding is loaded,
+ * so that a missing constructor fails fast and factory calls perform no argument matching. Members
+ * of the constructed instance are injected from bindings as usual.
+ * 
  * <h4>Scopes</h4>
  * 
  * <p>
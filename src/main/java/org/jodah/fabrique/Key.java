@@ -10,6 +10,13 @@ import org.jodah.fabrique.internal.Validate;
  * @param <T> Bound type
  */
 public class Key<T> {
+  /** Canonical unnamed keys */
+  private static final ClassValue<Key<?>> unnamedKeys = new ClassValue<Key<?>>() {
+    @Override
+    protected Key<?> computeValue(Class<?> type) {
+      return newKey(type);
+    }
+  };
   private final Class<T> type;
   private Object name;
   private final int hashCode;
@@ -29,15 +36,29 @@ public class Key<T> {
   }
 
   /**
-   * Gets a key for an injection type.
+   * Gets a key for an injection type. The same canonical key is returned for each call with the
+   * same {@code pType}.
    * 
    * @param <T> Bound type
    * @param pType Key type
    * @return Key<T>
    * @throws ConfigurationException if {@code pType} is null
    */
+  @SuppressWarnings("unchecked")
   public static <T> Key<T> get(Class<T> pType) {
-    return new Key<T>(pType, null);
+    Validate.notNull(pType, "Key type cannot be null");
+    return (Key<T>) unnamedKeys.get(pType);
+  }
+
+  /**
+   * Creates an unnamed key for {@code type}.
+   * 
+   * @param <T> Bound type
+   * @param type Key type
+   * @return Key<T>
+   */
+  private static <T> Key<T> newKey(Class<T> type) {
+    return new Key<T>(type, null);
   }
 
   /**
@@ -50,7 +71,7 @@ public class Key<T> {
    * @throws ConfigurationException if {@code pType} is null
    */
   public static <T> Key<T> get(Class<T> pType, Object pName) {
-    return new Key<T>(pType, pName);
+    return pName == null ? get(pType) : new Key<T>(pType, pName);
   }
 
   /**
@@ -1,17 +1,29 @@
 package org.jodah.fabrique;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jodah.fabrique.internal.AspectStore;
 import org.jodah.fabrique.internal.BindingLoader;
 import org.jodah.fabrique.internal.Bindings;
 import org.jodah.fabrique.internal.Errors;
 import org.jodah.fabrique.internal.InjectionContext;
+import org.jodah.fabrique.internal.Invokers;
+import org.jodah.fabrique.internal.ProvisionHandleImpl;
+import org.jodah.fabrique.internal.ProvisionPlan;
 import org.jodah.fabrique.internal.Validate;
 import org.jodah.fabrique.util.MultiMap;
 
@@ -25,41 +37,172 @@ import org.jodah.fabrique.util.MultiMap;
  * See {@link Inject} for information on defining injection points.
  */
 public final class ObjectFactory {
-  private static final Map<Key<?>, Binding<?>> bindings = new LinkedHashMap<Key<?>, Binding<?>>();
-  private static final Map<Key<?>, Binding<?>> jitBindings = new HashMap<Key<?>, Binding<?>>();
-  private static Map<Key<?>, Binding<?>> bindingsImmutable;
-  private static MultiMap<Class<?>, Binding<?>> bindingsMultimap;
+  private static final AtomicReference<Registry> registry = new AtomicReference<Registry>(
+      Registry.EMPTY);
+  private static final ConcurrentMap<Key<?>, FutureTask<Binding<?>>> jitBindings = new ConcurrentHashMap<Key<?>, FutureTask<Binding<?>>>();
+  private static final ConcurrentMap<Class<?>, Binding<?>> jitBindingsByType = new ConcurrentHashMap<Class<?>, Binding<?>>();
+  private static final ConcurrentMap<Key<?>, ConfigurationException> jitFailures = new ConcurrentHashMap<Key<?>, ConfigurationException>();
+  private static final Map<Key<?>, Binding<?>> bindingsView = new RegistryView();
   private static final Object[] NULL_ARG = new Object[] { null };
 
   /** Matches a no argument constructor or method */
   public static final Object[] NO_ARGS = new Object[] {};
 
   /**
-   * Binding loader implementation.
+   * Binding loader implementation. Each modification publishes a new registry snapshot.
    */
   static BindingLoader bindingLoader = new BindingLoader() {
     /**
      * {@inheritDoc}
      */
     public void removeBinding(Binding<?> binding) {
-      bindings.remove(binding);
+      Validate.notNull(binding, "Binding cannot be null");
+
+      Registry current;
+      do {
+        current = registry.get();
+        if (current.bindings.get(binding.getKey()) != binding)
+          return;
+      } while (!registry.compareAndSet(current, current.without(binding)));
+
+      Key<?> key = binding.getKey();
+      if (key.getName() == null)
+        jitBindingsByType.remove(key.getType());
+      jitFailures.remove(key);
+      ProvisionPlan.invalidateAll();
     }
 
     /**
      * {@inheritDoc}
      */
     public void loadBinding(Binding<?> binding) throws ConfigurationException {
-      Validate.notNull(binding, "Binding cannot be null");
+      loadBindings(Collections.<Binding<?>>singletonList(binding));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void loadBindings(Collection<? extends Binding<?>> bindings)
+        throws ConfigurationException {
+      Validate.notNull(bindings, "Bindings cannot be null");
+
+      Registry current;
+      do {
+        current = registry.get();
+      } while (!registry.compareAndSet(current, current.with(bindings)));
+    }
+  };
+
+  /**
+   * An immutable snapshot of the factory's bindings. Modifications produce a new snapshot which is
+   * published atomically, allowing bindings to be read without locking while modules are loaded.
+   */
+  private static final class Registry {
+    static final Registry EMPTY = new Registry(new LinkedHashMap<Key<?>, Binding<?>>());
+    final Map<Key<?>, Binding<?>> bindings;
+    final Map<Class<?>, Binding<?>> unnamedBindings;
+    private volatile MultiMap<Class<?>, Binding<?>> bindingsMultimap;
 
-      if (bindings.get(binding.getKey()) != null)
-        throw new ConfigurationException(Errors.bindingExists(binding.getKey()));
+    /**
+     * Creates a new Registry object.
+     * 
+     * @param bindings Bindings, which should not be modified after the registry is created
+     */
+    Registry(LinkedHashMap<Key<?>, Binding<?>> bindings) {
+      this.bindings = Collections.unmodifiableMap(bindings);
+      unnamedBindings = new IdentityHashMap<Class<?>, Binding<?>>();
+      for (Binding<?> binding : bindings.values())
+        if (binding.getKey().getName() == null)
+          unnamedBindings.put(binding.getKey().getType(), binding);
+    }
 
-      bindings.put(binding.getKey(), binding);
+    /**
+     * Gets the bindings indexed by type, indexing them on first use. Concurrent first uses may
+     * each produce an equivalent index.
+     * 
+     * @return MultiMap
+     */
+    MultiMap<Class<?>, Binding<?>> bindingsMultimap() {
+      MultiMap<Class<?>, Binding<?>> result = bindingsMultimap;
+
+      if (result == null) {
+        result = new MultiMap<Class<?>, Binding<?>>();
+        for (Binding<?> _binding : bindings.values())
+          result.put(_binding.getKey().getType(), _binding);
+        bindingsMultimap = result;
+      }
 
-      if (bindingsMultimap != null)
-        bindingsMultimap.put(binding.getKey().getType(), binding);
+      return result;
+    }
+
+    /**
+     * Returns a copy of the registry that contains {@code added}.
+     * 
+     * @param added Bindings to add
+     * @return Registry
+     * @throws ConfigurationException if a binding for any key already exists
+     */
+    Registry with(Collection<? extends Binding<?>> added) {
+      LinkedHashMap<Key<?>, Binding<?>> copy = new LinkedHashMap<Key<?>, Binding<?>>(bindings);
+
+      for (Binding<?> binding : added) {
+        Validate.notNull(binding, "Binding cannot be null");
+        if (copy.put(binding.getKey(), binding) != null)
+          throw new ConfigurationException(Errors.bindingExists(binding.getKey()));
+      }
+
+      return new Registry(copy);
     }
-  };
+
+    /**
+     * Returns a copy of the registry that does not contain {@code removed}.
+     * 
+     * @param removed Binding to remove
+     * @return Registry
+     */
+    Registry without(Binding<?> removed) {
+      LinkedHashMap<Key<?>, Binding<?>> copy = new LinkedHashMap<Key<?>, Binding<?>>(bindings);
+      copy.remove(removed.getKey());
+      return new Registry(copy);
+    }
+  }
+
+  /**
+   * An unmodifiable view of the bindings in the current registry snapshot.
+   */
+  private static final class RegistryView extends AbstractMap<Key<?>, Binding<?>> {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+      return registry.get().bindings.containsKey(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Map.Entry<Key<?>, Binding<?>>> entrySet() {
+      return registry.get().bindings.entrySet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Binding<?> get(Object key) {
+      return registry.get().bindings.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+      return registry.get().bindings.size();
+    }
+  }
 
   /**
    * Private to prevent instantiation.
@@ -80,10 +223,46 @@ public final class ObjectFactory {
     if (type == null)
       throw new IllegalArgumentException("Type cannot be null");
 
-    if (bindingsMultimap == null)
-      indexBindings();
+    List<Binding<T>> bindings = (List) registry.get().bindingsMultimap().get(type);
+    if (bindings == null)
+      return Collections.emptyList();
+    return Collections.unmodifiableList(bindings);
+  }
+
+  /**
+   * Finds the binding for {@code type}. Unlike {@link #getBinding(Class)}, a missing binding is
+   * reported by returning null rather than by throwing an exception.
+   * 
+   * @param <T> Bound type
+   * @param type Type to find binding for
+   * @return Binding<T> or null if no binding can be found for {@code type}
+   * @throws IllegalArgumentException if {@code type} is null
+   */
+  public static <T> Binding<T> findBinding(Class<T> type) {
+    if (type == null)
+      throw new IllegalArgumentException("Type cannot be null");
+    Binding<T> binding = unnamedBindingFor(type);
+    return binding == null ? findBinding(Key.get(type)) : binding;
+  }
+
+  /**
+   * Finds the binding for {@code key}. Unlike {@link #getBinding(Key)}, a missing binding is
+   * reported by returning null rather than by throwing an exception.
+   * 
+   * @param <T> Bound type
+   * @param key Key to find binding for
+   * @return Binding<T> or null if no binding can be found for {@code key}
+   * @throws IllegalArgumentException if {@code key} is null
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Binding<T> findBinding(Key<T> key) {
+    if (key == null)
+      throw new IllegalArgumentException("Key cannot be null");
 
-    return Collections.<Binding<T>>unmodifiableList((List) bindingsMultimap.get(type));
+    Binding<T> binding = (Binding<T>) registry.get().bindings.get(key);
+    if (binding != null)
+      return binding;
+    return getJustInTimeBinding(key, false);
   }
 
   /**
@@ -95,7 +274,8 @@ public final class ObjectFactory {
    * @throws ConfigurationException if the factory cannot find the binding for {@code type}
    */
   public static <T> Binding<T> getBinding(Class<T> type) {
-    return getBinding(Key.get(type));
+    Binding<T> binding = unnamedBindingFor(type);
+    return binding == null ? getBinding(Key.get(type)) : binding;
   }
 
   /**
@@ -111,26 +291,20 @@ public final class ObjectFactory {
     if (key == null)
       throw new ConfigurationException("Binding key cannot be null");
 
-    Binding<T> binding = (Binding<T>) bindings.get(key);
+    Binding<T> binding = (Binding<T>) registry.get().bindings.get(key);
     if (binding != null)
       return binding;
 
-    binding = getJustInTimeBinding(key);
-    if (binding == null)
-      throw new ConfigurationException("Binding does not exist for " + key);
-
-    return binding;
+    return getJustInTimeBinding(key, true);
   }
 
   /**
-   * Gets an immutable map of all bindings.
+   * Gets an immutable view of all bindings. The view reflects subsequently loaded bindings.
    * 
    * @return Map
    */
   public static Map<Key<?>, Binding<?>> getBindings() {
-    if (bindingsImmutable == null)
-      bindingsImmutable = Collections.unmodifiableMap(bindings);
-    return bindingsImmutable;
+    return bindingsView;
   }
 
   /**
@@ -147,7 +321,7 @@ public final class ObjectFactory {
    * @throws ProvisionException if there was a runtime failure while providing an instance
    */
   public static <T> T getDefaultInstance(Class<T> type) {
-    return getInstanceInternal(Key.get(type), NO_ARGS);
+    return getInstanceInternal(getBinding(type), NO_ARGS);
   }
 
   /**
@@ -165,7 +339,7 @@ public final class ObjectFactory {
    * @throws ProvisionException if there was a runtime failure while providing an instance
    */
   public static <T> T getDefaultNamedInstance(Class<T> type, Object name) {
-    return getInstanceInternal(Key.get(type, name), NO_ARGS);
+    return getInstanceInternal(getBinding(Key.get(type, name)), NO_ARGS);
   }
 
   /**
@@ -178,7 +352,7 @@ public final class ObjectFactory {
    * @throws ProvisionException If there was a runtime failure while providing an instance
    */
   public static <T> T getInstance(Key<T> key) {
-    return getInstanceInternal(key, (Object[]) null);
+    return getInstanceInternal(getBinding(key), (Object[]) null);
   }
 
   /**
@@ -197,7 +371,7 @@ public final class ObjectFactory {
    * @throws ProvisionException if there was a runtime failure while providing an instance
    */
   public static <T> T getInstance(Key<T> key, Object... args) {
-    return getInstanceInternal(key, args == null ? NULL_ARG : args);
+    return getInstanceInternal(getBinding(key), args == null ? NULL_ARG : args);
   }
 
   /**
@@ -213,11 +387,8 @@ public final class ObjectFactory {
     if (type == null)
       throw new IllegalArgumentException("Type cannot be null");
 
-    if (bindingsMultimap == null)
-      indexBindings();
-
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    List<Binding<T>> bindings = (List) bindingsMultimap.get(type);
+    List<Binding<T>> bindings = (List) registry.get().bindingsMultimap().get(type);
     if (bindings == null)
       throw new ConfigurationException("Bindings do not exist for " + type);
 
@@ -238,7 +409,7 @@ public final class ObjectFactory {
    * @throws ProvisionException if there was a runtime failure while providing an instance
    */
   public static <T> T getInstance(Class<T> type) {
-    return getInstanceInternal(Key.get(type), (Object[]) null);
+    return getInstanceInternal(getBinding(type), (Object[]) null);
   }
 
   /**
@@ -257,7 +428,58 @@ public final class ObjectFactory {
    * @throws ProvisionException if there was a runtime failure while providing an instance
    */
   public static <T> T getInstance(Class<T> type, Object... args) {
-    return getInstanceInternal(Key.get(type), args == null ? NULL_ARG : args);
+    return getInstanceInternal(getBinding(type), args == null ? NULL_ARG : args);
+  }
+
+  /**
+   * Gets an instance of the type bound for {@code type} with the construction argument
+   * {@code arg}. Behaves as {@link #getInstance(Class, Object...)} without allocating an argument
+   * array.
+   * 
+   * @param <T> Bound type
+   * @param type Type to retrieve instance of
+   * @param arg Construction argument
+   * @return T
+   * @throws ConfigurationException if the factory cannot find the binding for {@code type}
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  public static <T> T getInstance(Class<T> type, Object arg) {
+    return instanceFor(getBinding(type), arg);
+  }
+
+  /**
+   * Gets an instance of the type bound for {@code type} with the construction arguments
+   * {@code arg1} and {@code arg2}. Behaves as {@link #getInstance(Class, Object...)} without
+   * allocating an argument array.
+   * 
+   * @param <T> Bound type
+   * @param type Type to retrieve instance of
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @return T
+   * @throws ConfigurationException if the factory cannot find the binding for {@code type}
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  public static <T> T getInstance(Class<T> type, Object arg1, Object arg2) {
+    return instanceFor(getBinding(type), arg1, arg2);
+  }
+
+  /**
+   * Gets an instance of the type bound for {@code type} with the construction arguments
+   * {@code arg1}, {@code arg2} and {@code arg3}. Behaves as {@link #getInstance(Class, Object...)}
+   * without allocating an argument array.
+   * 
+   * @param <T> Bound type
+   * @param type Type to retrieve instance of
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @param arg3 Third construction argument
+   * @return T
+   * @throws ConfigurationException if the factory cannot find the binding for {@code type}
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  public static <T> T getInstance(Class<T> type, Object arg1, Object arg2, Object arg3) {
+    return instanceFor(getBinding(type), arg1, arg2, arg3);
   }
 
   /**
@@ -285,7 +507,7 @@ public final class ObjectFactory {
    * @throws ProvisionException if there was a runtime failure while providing an instance
    */
   public static <T> T getNamedInstance(Class<T> type, Object name) {
-    return getInstanceInternal(Key.get(type, name), (Object[]) null);
+    return getInstanceInternal(getBinding(Key.get(type, name)), (Object[]) null);
   }
 
   /**
@@ -301,7 +523,62 @@ public final class ObjectFactory {
    * @throws ProvisionException if there was a runtime failure while providing an instance
    */
   public static <T> T getNamedInstance(Class<T> type, Object name, Object... args) {
-    return getInstanceInternal(Key.get(type, name), args == null ? NULL_ARG : args);
+    return getInstanceInternal(getBinding(Key.get(type, name)), args == null ? NULL_ARG : args);
+  }
+
+  /**
+   * Gets an instance of the type bound for {@code type} as {@code name} with the construction
+   * argument {@code arg}. Behaves as {@link #getNamedInstance(Class, Object, Object...)} without
+   * allocating an argument array.
+   * 
+   * @param <T> Bound type
+   * @param type Type to get instance of
+   * @param name Name of binding to get instance of
+   * @param arg Construction argument
+   * @return T
+   * @throws ConfigurationException if the factory cannot find the binding for {@code type}
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  public static <T> T getNamedInstance(Class<T> type, Object name, Object arg) {
+    return instanceFor(getBinding(Key.get(type, name)), arg);
+  }
+
+  /**
+   * Gets an instance of the type bound for {@code type} as {@code name} with the construction
+   * arguments {@code arg1} and {@code arg2}. Behaves as
+   * {@link #getNamedInstance(Class, Object, Object...)} without allocating an argument array.
+   * 
+   * @param <T> Bound type
+   * @param type Type to get instance of
+   * @param name Name of binding to get instance of
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @return T
+   * @throws ConfigurationException if the factory cannot find the binding for {@code type}
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  public static <T> T getNamedInstance(Class<T> type, Object name, Object arg1, Object arg2) {
+    return instanceFor(getBinding(Key.get(type, name)), arg1, arg2);
+  }
+
+  /**
+   * Gets an instance of the type bound for {@code type} as {@code name} with the construction
+   * arguments {@code arg1}, {@code arg2} and {@code arg3}. Behaves as
+   * {@link #getNamedInstance(Class, Object, Object...)} without allocating an argument array.
+   * 
+   * @param <T> Bound type
+   * @param type Type to get instance of
+   * @param name Name of binding to get instance of
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @param arg3 Third construction argument
+   * @return T
+   * @throws ConfigurationException if the factory cannot find the binding for {@code type}
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  public static <T> T getNamedInstance(Class<T> type, Object name, Object arg1, Object arg2,
+      Object arg3) {
+    return instanceFor(getBinding(Key.get(type, name)), arg1, arg2, arg3);
   }
 
   /**
@@ -344,7 +621,7 @@ public final class ObjectFactory {
    * @throws ConfigurationException if the factory cannot find the binding for {@code pType}
    */
   public static <T> Provider<T> getProvider(Class<T> type) {
-    return getBinding(Key.get(type)).getProvider();
+    return getBinding(type).getProvider();
   }
 
   /**
@@ -358,7 +635,7 @@ public final class ObjectFactory {
    * @throws ConfigurationException if the factory cannot find the binding for {@code pType}
    */
   public static <T> Provider<T> getProvider(Class<T> type, Object... args) {
-    return getBinding(Key.get(type)).getProvider(args == null ? NULL_ARG : args);
+    return getBinding(type).getProvider(args == null ? NULL_ARG : args);
   }
 
   /**
@@ -387,74 +664,233 @@ public final class ObjectFactory {
     return getBinding(key).getProvider();
   }
 
+  /**
+   * Gets a handle that provides instances of the type bound for {@code type}, constructed with
+   * arguments of {@code argTypes}. The binding and the constructor or provider 'get' method
+   * accepting {@code argTypes} are resolved once, when the handle is created and again after
+   * modules are loaded, rather than on each call. If no {@code argTypes} are given, the handle
+   * resolves the binding's default constructor or provider 'get' method, which every binding has,
+   * for calls without arguments, while calls with arguments are dispatched on the runtime types of
+   * the arguments, per call, as {@link #getInstance(Class, Object...)} does. Such calls may select
+   * any of the binding's optional construction methods, including ones whose parameter types
+   * differ from the default's.
+   * 
+   * @param <T> Bound type
+   * @param type Type to get handle for
+   * @param argTypes Construction argument types
+   * @return ProvisionHandle<T>
+   * @throws ConfigurationException if the factory cannot find the binding for {@code type}, or if
+   *           no constructor or provider 'get' method accepts {@code argTypes}
+   */
+  public static <T> ProvisionHandle<T> handle(Class<T> type, Class<?>... argTypes) {
+    return handle(Key.get(type), argTypes);
+  }
+
+  /**
+   * Gets a handle that provides instances of the bound type for {@code key}, constructed with
+   * arguments of {@code argTypes}.
+   * 
+   * @param <T> Bound type
+   * @param key Key to get handle for
+   * @param argTypes Construction argument types
+   * @return ProvisionHandle<T>
+   * @throws ConfigurationException if the factory cannot find the binding for {@code key}, or if
+   *           no constructor or provider 'get' method accepts {@code argTypes}
+   * @see #handle(Class, Class...)
+   */
+  public static <T> ProvisionHandle<T> handle(Key<T> key, Class<?>... argTypes) {
+    Validate.notNull(key, "Key cannot be null");
+    Validate.noNullElements(argTypes, "Argument types cannot be null");
+    return new ProvisionHandleImpl<T>(key, argTypes);
+  }
+
   /**
    * Loads {@code modules} into the factory.
    * 
    * <p>
-   * This method is not threadsafe and must be externally synchronized.
+   * The bindings for {@code modules} are published atomically and may be loaded while instances are
+   * concurrently being provided.
    * 
    * @param pModules Modules to load
    */
   public static void loadModules(Module... modules) {
     Validate.noNullElements(modules, "Modules cannot be null");
-    Bindings.loadBindings(bindingLoader, modules);
+
+    try {
+      Bindings.loadBindings(bindingLoader, modules);
+    } finally {
+      jitFailures.clear();
+    }
   }
 
   /**
-   * Gets an instance of the bound type for {@code key} with construction arguments {@code args} .
+   * Gets the engine used to invoke constructors, provider methods and injectable members.
+   * 
+   * @return ProvisionEngine
+   */
+  public static ProvisionEngine getProvisionEngine() {
+    return Invokers.getEngine();
+  }
+
+  /**
+   * Selects the engine used to invoke constructors, provider methods and injectable members.
+   * Existing injectors switch to the new engine on their next use. Defaults to
+   * {@link ProvisionEngine#GENERATED}.
+   * 
+   * <p>
+   * Like the rest of the factory's configuration, the engine is global: it applies to every binding
+   * in the JVM, not just those of the caller's modules. It is meant to be selected once, before
+   * objects are provisioned. Switching it is not synchronized with provisions in progress, which
+   * may complete with either engine.
+   * 
+   * @param engine Provision engine
+   * @throws ConfigurationException if {@code engine} is null
+   */
+  public static void setProvisionEngine(ProvisionEngine engine) {
+    Validate.notNull(engine, "Provision engine cannot be null");
+    Invokers.setEngine(engine);
+  }
+
+  /**
+   * Gets an instance of the bound type for {@code binding} with construction arguments
+   * {@code args}.
    */
-  private static <T> T getInstanceInternal(Key<T> key, Object... args) {
-    Binding<T> binding = getBinding(key);
+  private static <T> T getInstanceInternal(Binding<T> binding, Object... args) {
+    InjectionContext context = InjectionContext.current();
+    int frame = context.enter();
 
     try {
-      return binding.get(new InjectionContext(), args);
+      return binding.get(context, args);
     } catch (Exception e) {
-      throw new ProvisionException(key, e);
+      throw new ProvisionException(binding.getKey(), e);
+    } finally {
+      context.exit(frame);
     }
   }
 
   /**
-   * Gets and loads a just in time binding for {@code key}. Write operations are guarded by
-   * {@code key.getType()}.
-   * 
-   * @param <T> Bound type
-   * @param key Key
-   * @return IBinding
+   * Gets an instance of the bound type for {@code binding} with the construction argument
+   * {@code arg}, carried in an argument array borrowed from the injection context.
    */
-  @SuppressWarnings("unchecked")
-  private static <T> Binding<T> getJustInTimeBinding(Key<T> key) {
-    Binding<T> binding = null;
+  private static <T> T instanceFor(Binding<T> binding, Object arg) {
+    InjectionContext context = InjectionContext.current();
+    return provide(binding, context, context.arguments(arg));
+  }
 
-    synchronized (key.getType()) {
-      binding = (Binding<T>) jitBindings.get(key);
+  /**
+   * Gets an instance of the bound type for {@code binding} with the construction arguments
+   * {@code arg1} and {@code arg2}, carried in an argument array borrowed from the injection
+   * context.
+   */
+  private static <T> T instanceFor(Binding<T> binding, Object arg1, Object arg2) {
+    InjectionContext context = InjectionContext.current();
+    return provide(binding, context, context.arguments(arg1, arg2));
+  }
 
-      if (binding != null)
-        return binding;
-      binding = Bindings.create(key);
-      jitBindings.put(key, binding);
+  /**
+   * Gets an instance of the bound type for {@code binding} with the construction arguments
+   * {@code arg1}, {@code arg2} and {@code arg3}, carried in an argument array borrowed from the
+   * injection context.
+   */
+  private static <T> T instanceFor(Binding<T> binding, Object arg1, Object arg2, Object arg3) {
+    InjectionContext context = InjectionContext.current();
+    return provide(binding, context, context.arguments(arg1, arg2, arg3));
+  }
 
-      boolean success = false;
+  /**
+   * Gets an instance of the bound type for {@code binding} with the borrowed argument array
+   * {@code args}, releasing it afterwards.
+   */
+  private static <T> T provide(Binding<T> binding, InjectionContext context, Object[] args) {
+    int frame = context.enter();
 
-      try {
-        Bindings.initialize(binding);
-        success = true;
-      } finally {
-        if (!success)
-          jitBindings.remove(key);
-      }
+    try {
+      return binding.get(context, args);
+    } catch (Exception e) {
+      throw new ProvisionException(binding.getKey(), e);
+    } finally {
+      context.release(args);
+      context.exit(frame);
     }
+  }
 
-    return binding;
+  /**
+   * Gets the explicit or already loaded just in time binding for the unnamed {@code type} without
+   * a key lookup.
+   * 
+   * @param <T> Bound type
+   * @param type Type to get binding for
+   * @return Binding<T> or null if no such binding has been loaded
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> Binding<T> unnamedBindingFor(Class<T> type) {
+    if (type == null)
+      return null;
+    Binding<T> binding = (Binding<T>) registry.get().unnamedBindings.get(type);
+    return binding == null ? (Binding<T>) jitBindingsByType.get(type) : binding;
   }
 
   /**
-   * Indexes bindings into the multimap. Additional loaded bindings will be maintained in the
-   * multimap.
+   * Gets and loads a just in time binding for {@code key}. Concurrent requests for the same key
+   * wait on a single creation of the binding, while requests for different keys do not contend.
+   * Failures to configure a binding are remembered until modules are next loaded so that they are
+   * not repeated.
+   * 
+   * @param <T> Bound type
+   * @param key Key
+   * @param required Whether to throw rather than return null if the binding cannot be created
+   * @return IBinding
+   * @throws ConfigurationException if {@code required} and the binding cannot be created or
+   *           initialized
    */
-  private static void indexBindings() {
-    bindingsMultimap = new MultiMap<Class<?>, Binding<?>>();
-    for (Binding<?> _binding : bindings.values())
-      bindingsMultimap.put(_binding.getKey().getType(), _binding);
+  @SuppressWarnings("unchecked")
+  private static <T> Binding<T> getJustInTimeBinding(final Key<T> key, boolean required) {
+    FutureTask<Binding<?>> future = jitBindings.get(key);
+
+    if (future == null) {
+      ConfigurationException failure = jitFailures.get(key);
+      if (failure != null) {
+        if (required)
+          throw new ConfigurationException(failure.getMessage(), failure);
+        return null;
+      }
+
+      FutureTask<Binding<?>> newFuture = new FutureTask<Binding<?>>(new Callable<Binding<?>>() {
+        public Binding<?> call() {
+          Binding<T> binding = Bindings.create(key);
+          Bindings.initialize(binding);
+          if (key.getName() == null)
+            jitBindingsByType.put(key.getType(), binding);
+          return binding;
+        }
+      });
+
+      future = jitBindings.putIfAbsent(key, newFuture);
+      if (future == null) {
+        future = newFuture;
+        newFuture.run();
+      }
+    }
+
+    try {
+      return (Binding<T>) future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof ConfigurationException)
+        jitFailures.put(key, (ConfigurationException) cause);
+      jitBindings.remove(key, future);
+
+      if (cause instanceof ConfigurationException && !required)
+        return null;
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      if (cause instanceof Error)
+        throw (Error) cause;
+      throw new ConfigurationException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ConfigurationException("Interrupted while waiting for binding " + key);
+    }
   }
 
   /**
@@ -462,10 +898,11 @@ public final class ObjectFactory {
    */
   @SuppressWarnings("unused")
   private static void clearBindings() {
-    bindings.clear();
+    registry.set(Registry.EMPTY);
     jitBindings.clear();
+    jitBindingsByType.clear();
+    jitFailures.clear();
     AspectStore.clear();
-    if (bindingsMultimap != null)
-      bindingsMultimap.clear();
+    ProvisionPlan.invalidateAll();
   }
 }
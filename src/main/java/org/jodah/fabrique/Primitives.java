@@ -4,33 +4,90 @@ package org.jodah.fabrique;
  * Utility methods for working with primitives.
  */
 public final class Primitives {
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 127;
+  private static final Primitive TRUE = new Primitive(1, Boolean.TYPE);
+  private static final Primitive FALSE = new Primitive(0, Boolean.TYPE);
+  private static final Primitive[] INTS = cache(Integer.TYPE);
+  private static final Primitive[] LONGS = cache(Long.TYPE);
+  private static final Primitive[] SHORTS = cache(Short.TYPE);
+  private static final Primitive[] BYTES = cache(Byte.TYPE);
+  private static final Primitive[] CHARS = cache(Character.TYPE);
+
   private Primitives() {
   }
 
   /**
-   * Encapsulates a primitive value.
+   * Encapsulates a primitive value. The value is held unboxed, and is a {@link Number} so that
+   * generated invokers can unbox numeric primitives without first converting them to their wrapper
+   * types. As a Number, a boolean value converts to 1 or 0 and a char value to its code.
+   * 
+   * <p>
+   * Primitives are equal when they have the same primitive type and value, where float and double
+   * values compare as {@link Double#equals(Object)} does. A primitive is never equal to a boxed
+   * value.
    */
-  public static class Primitive {
-    private final Class<?> primitiveType;
-    private final Object primitive;
+  @SuppressWarnings("serial")
+  public static class Primitive extends Number {
+    private Class<?> primitiveType;
+    /** The value, or the bits of a float or double value */
+    private long bits;
 
     /**
      * Creates a new Primitive object.
      * 
-     * @param primitive Primitive boxed object
+     * @param bits Primitive value, or the bits of a float or double value with NaN collapsed to a
+     *          single value, as {@link Double#doubleToLongBits(double)} returns them
      * @param primitiveType Primitive type
      */
-    private Primitive(Object primitive, Class<?> primitiveType) {
-      this.primitive = primitive;
+    protected Primitive(long bits, Class<?> primitiveType) {
+      this.bits = bits;
       this.primitiveType = primitiveType;
     }
 
+    /**
+     * Replaces the value. Only for subclasses that carry primitive arguments and are reused once
+     * the provision they were given for returns; primitives are otherwise immutable.
+     * 
+     * @param bits Primitive value, or the bits of a float or double value
+     * @param primitiveType Primitive type
+     */
+    protected void setValue(long bits, Class<?> primitiveType) {
+      this.bits = bits;
+      this.primitiveType = primitiveType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double doubleValue() {
+      if (primitiveType == Double.TYPE)
+        return Double.longBitsToDouble(bits);
+      if (primitiveType == Float.TYPE)
+        return Float.intBitsToFloat((int) bits);
+      return bits;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean equals(Object object) {
-      return object.equals(primitive) && object.getClass().equals(primitiveType);
+      if (object == this)
+        return true;
+      if (!(object instanceof Primitive))
+        return false;
+      Primitive other = (Primitive) object;
+      return primitiveType == other.primitiveType && bits == other.bits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float floatValue() {
+      return (float) doubleValue();
     }
 
     /**
@@ -39,7 +96,21 @@ public final class Primitives {
      * @return Object
      */
     public Object getPrimitive() {
-      return primitive;
+      if (primitiveType == Integer.TYPE)
+        return Integer.valueOf((int) bits);
+      else if (primitiveType == Boolean.TYPE)
+        return Boolean.valueOf(bits != 0);
+      else if (primitiveType == Long.TYPE)
+        return Long.valueOf(bits);
+      else if (primitiveType == Character.TYPE)
+        return Character.valueOf((char) bits);
+      else if (primitiveType == Byte.TYPE)
+        return Byte.valueOf((byte) bits);
+      else if (primitiveType == Short.TYPE)
+        return Short.valueOf((short) bits);
+      else if (primitiveType == Float.TYPE)
+        return Float.valueOf(floatValue());
+      return Double.valueOf(doubleValue());
     }
 
     /**
@@ -50,6 +121,39 @@ public final class Primitives {
     public Class<?> getType() {
       return primitiveType;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+      return 31 * primitiveType.hashCode() + (int) (bits ^ (bits >>> 32));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int intValue() {
+      return (int) longValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long longValue() {
+      return primitiveType == Double.TYPE || primitiveType == Float.TYPE ? (long) doubleValue()
+          : bits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return String.valueOf(getPrimitive());
+    }
   }
 
   /**
@@ -81,17 +185,19 @@ public final class Primitives {
 
   /**
    * Converts an array of potential {@link Primitive} object to an array of boxed primitive objects.
+   * Returns {@code args} itself if it contains no {@link Primitive} objects.
    * 
    * @param args Objects to convert
    * @return Object[]
    */
   public static Object[] convertPrimitives(Object[] args) {
-    Object[] result = new Object[args.length];
-    for (int i = 0; i < result.length; i++)
-      if (args[i] instanceof Primitive)
+    Object[] result = args;
+    for (int i = 0; i < args.length; i++)
+      if (args[i] instanceof Primitive) {
+        if (result == args)
+          result = args.clone();
         result[i] = ((Primitive) args[i]).getPrimitive();
-      else
-        result[i] = args[i];
+      }
     return result;
   }
 
@@ -102,7 +208,7 @@ public final class Primitives {
    * @return Object
    */
   public static Object of(int primitive) {
-    return new Primitive(primitive, Integer.TYPE);
+    return cached(primitive, INTS, Integer.TYPE);
   }
 
   /**
@@ -112,7 +218,7 @@ public final class Primitives {
    * @return Object
    */
   public static Object of(boolean primitive) {
-    return new Primitive(primitive, Boolean.TYPE);
+    return primitive ? TRUE : FALSE;
   }
 
   /**
@@ -122,7 +228,7 @@ public final class Primitives {
    * @return Object
    */
   public static Object of(long primitive) {
-    return new Primitive(primitive, Long.TYPE);
+    return cached(primitive, LONGS, Long.TYPE);
   }
 
   /**
@@ -132,7 +238,7 @@ public final class Primitives {
    * @return Object
    */
   public static Object of(char primitive) {
-    return new Primitive(primitive, Character.TYPE);
+    return cached(primitive, CHARS, Character.TYPE);
   }
 
   /**
@@ -142,7 +248,7 @@ public final class Primitives {
    * @return Object
    */
   public static Object of(byte primitive) {
-    return new Primitive(primitive, Byte.TYPE);
+    return cached(primitive, BYTES, Byte.TYPE);
   }
 
   /**
@@ -152,7 +258,7 @@ public final class Primitives {
    * @return Object
    */
   public static Object of(short primitive) {
-    return new Primitive(primitive, Short.TYPE);
+    return cached(primitive, SHORTS, Short.TYPE);
   }
 
   /**
@@ -162,7 +268,7 @@ public final class Primitives {
    * @return Object
    */
   public static Object of(float primitive) {
-    return new Primitive(primitive, Float.TYPE);
+    return new Primitive(Float.floatToIntBits(primitive), Float.TYPE);
   }
 
   /**
@@ -172,6 +278,35 @@ public final class Primitives {
    * @return Object
    */
   public static Object of(double primitive) {
-    return new Primitive(primitive, Double.TYPE);
+    return new Primitive(Double.doubleToLongBits(primitive), Double.TYPE);
+  }
+
+  /**
+   * Creates cached {@link Primitive} objects of {@code primitiveType} for small values.
+   * 
+   * @param primitiveType Primitive type
+   * @return Primitive[]
+   */
+  private static Primitive[] cache(Class<?> primitiveType) {
+    int low = primitiveType == Character.TYPE ? 0 : CACHE_LOW;
+    Primitive[] cache = new Primitive[CACHE_HIGH - low + 1];
+    for (int i = 0; i < cache.length; i++)
+      cache[i] = new Primitive(i + low, primitiveType);
+    return cache;
+  }
+
+  /**
+   * Gets the cached {@link Primitive} for {@code value} from {@code cache}, or a new one if the
+   * value is not cached.
+   * 
+   * @param value Primitive value
+   * @param cache Cached primitives
+   * @param primitiveType Primitive type
+   * @return Primitive
+   */
+  private static Primitive cached(long value, Primitive[] cache, Class<?> primitiveType) {
+    int low = CACHE_HIGH + 1 - cache.length;
+    return value >= low && value <= CACHE_HIGH ? cache[(int) value - low]
+        : new Primitive(value, primitiveType);
   }
 }
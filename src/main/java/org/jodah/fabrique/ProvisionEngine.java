@@ -0,0 +1,29 @@
+package org.jodah.fabrique;
+
+/**
+ * The means by which the {@link ObjectFactory} invokes constructors, provider 'get' methods,
+ * injectable methods and injectable fields. Constructors of types with matching method interceptors
+ * are always invoked through their generated proxy class.
+ * 
+ * <p>
+ * See {@link ObjectFactory#setProvisionEngine(ProvisionEngine)}.
+ */
+public enum ProvisionEngine {
+  /**
+   * Invokes members through classes generated per type, falling back to reflection for members
+   * that the generated classes cannot access. The default.
+   */
+  GENERATED,
+
+  /**
+   * Invokes public constructors and methods of public types through classes spun by
+   * {@link java.lang.invoke.LambdaMetafactory}, which call them directly. Other members, and
+   * fields, are invoked through method handles.
+   */
+  METHOD_HANDLE,
+
+  /**
+   * Invokes members through reflection.
+   */
+  REFLECTION;
+}
@@ -0,0 +1,161 @@
+package org.jodah.fabrique;
+
+/**
+ * A pre-resolved means of providing instances for a binding. A handle resolves its binding, along
+ * with the construction method for its argument types, once rather than on each call, making it
+ * suitable for frequently executed code. Handles may be retained, such as in a static field, and
+ * resolve their binding again on first use after modules are loaded.
+ * 
+ * <p>
+ * See {@link ObjectFactory#handle(Class, Class...)}.
+ * 
+ * @param <T> Provided type
+ */
+public interface ProvisionHandle<T> extends Provider<T> {
+  /**
+   * Provides an instance of {@code T}.
+   * 
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for construction arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  T get();
+
+  /**
+   * Provides an instance of {@code T} with the construction argument {@code arg}.
+   * 
+   * @param arg Construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  T get(Object arg);
+
+  /**
+   * Provides an instance of {@code T} with the construction arguments {@code arg1} and
+   * {@code arg2}.
+   * 
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  T get(Object arg1, Object arg2);
+
+  /**
+   * Provides an instance of {@code T} with the construction arguments {@code arg1}, {@code arg2}
+   * and {@code arg3}.
+   * 
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @param arg3 Third construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  T get(Object arg1, Object arg2, Object arg3);
+
+  /**
+   * Provides an instance of {@code T} with the construction arguments {@code args}.
+   * 
+   * @param args Construction arguments
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  T get(Object... args);
+
+  /**
+   * Provides an instance of {@code T} with the primitive int construction argument {@code arg},
+   * without boxing it or allocating a {@link Primitives.Primitive} for it. The argument is matched
+   * as {@code Primitives.of(arg)} would be, so it suits handles created for an {@code int}
+   * argument, or without argument types.
+   * 
+   * @param arg Construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   */
+  T getInt(int arg);
+
+  /**
+   * Provides an instance of {@code T} with the primitive int construction arguments {@code arg1}
+   * and {@code arg2}.
+   * 
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   * @see #getInt(int)
+   */
+  T getInt(int arg1, int arg2);
+
+  /**
+   * Provides an instance of {@code T} with the primitive long construction argument {@code arg}.
+   * 
+   * @param arg Construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   * @see #getInt(int)
+   */
+  T getLong(long arg);
+
+  /**
+   * Provides an instance of {@code T} with the primitive long construction arguments {@code arg1}
+   * and {@code arg2}.
+   * 
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   * @see #getInt(int)
+   */
+  T getLong(long arg1, long arg2);
+
+  /**
+   * Provides an instance of {@code T} with the primitive double construction argument
+   * {@code arg}.
+   * 
+   * @param arg Construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   * @see #getInt(int)
+   */
+  T getDouble(double arg);
+
+  /**
+   * Provides an instance of {@code T} with the primitive double construction arguments
+   * {@code arg1} and {@code arg2}.
+   * 
+   * @param arg1 First construction argument
+   * @param arg2 Second construction argument
+   * @return T
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   * @throws ConfigurationException if the handle's binding cannot be found
+   * @throws ProvisionException if there was a runtime failure while providing an instance
+   * @see #getInt(int)
+   */
+  T getDouble(double arg1, double arg2);
+
+  /**
+   * Gets the key of the handle's binding.
+   * 
+   * @return Key<T>
+   */
+  Key<T> getKey();
+}
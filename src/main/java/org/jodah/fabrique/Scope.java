@@ -5,16 +5,18 @@ package org.jodah.fabrique;
  * 
  * <p>
  * Note: Scopes do not take binding arguments into account. Objects produced for a scoped binding
- * will be unique for the scope, regardless of arguments.
+ * will be unique for the scope, regardless of arguments. Explicit arguments are only applied when
+ * the unscoped provider is called from within the {@code get} call of the scoped provider.
  */
 public interface Scope {
   /**
-   * Returns a scoped provider constructed specifically for they binding {@code key}. The scoped
-   * provider is capable producing objects within a particular scope.
+   * Returns a scoped provider constructed specifically for the binding {@code key}, which produces
+   * objects within a particular scope by delegating to {@code unscoped}. This is called once per
+   * binding, and the returned provider may be called concurrently.
    * 
    * @param key Binding key
-   * @param pProvider Unscoped provider
-   * @return ScopedProvider Scoped provider
+   * @param unscoped Unscoped provider
+   * @return Provider<T> Scoped provider
    */
-  <T> ScopedProvider<T> scope(Key<T> key);
+  <T> Provider<T> scope(Key<T> key, Provider<T> unscoped);
 }
@@ -1,180 +1,1819 @@
 package org.jodah.fabrique;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jodah.fabrique.internal.InjectionContext;
+import org.jodah.fabrique.internal.ObjectPool;
+import org.jodah.fabrique.internal.Validate;
+
+/**
+ * Provides default scope implementations.
+ */
+public final class Scopes {
+  /** Singleton scope */
+  public static final Scope SINGLETON = new SingletonScope();
+
+  /** Eager Singleton scope */
+  public static final Scope EAGER_SINGLETON = new SingletonScope();
+
+  /** Thread scope */
+  public static final ThreadScope THREAD = new ThreadScope();
+
+  /** Soft scope */
+  public static final SoftScope SOFT = new SoftScope();
+
+  /** Simple scope */
+  public static final SimpleScope SIMPLE = new SimpleScope();
+
+  /**
+   * Thread scope. Each thread scoped binding is assigned a slot in the storage of each thread, so
+   * that scoped lookups consist of a thread local read and an array access.
+   * 
+   * <p>
+   * Scoped objects otherwise live as long as their thread. Threads that are pooled should release
+   * them at task boundaries, either via {@link #clear()} or {@link #close(Disposer)}, or by running
+   * tasks through an executor obtained from {@link #executor(Executor)}.
+   */
+  public static class ThreadScope implements Scope {
+    /**
+     * Disposes of thread scoped objects when they are released.
+     */
+    public interface Disposer {
+      /** Closes objects that implement {@link AutoCloseable} */
+      Disposer CLOSE = new Disposer() {
+        public void dispose(Key<?> key, Object object) throws Exception {
+          if (object instanceof AutoCloseable)
+            ((AutoCloseable) object).close();
+        }
+      };
+
+      /**
+       * Disposes of {@code object}.
+       * 
+       * @param key Key of the binding that {@code object} was scoped for
+       * @param object Scoped object
+       * @throws Exception if disposal fails
+       */
+      void dispose(Key<?> key, Object object) throws Exception;
+    }
+
+    /**
+     * Creates a new ThreadScope object.
+     */
+    ThreadScope() {
+    }
+
+    /**
+     * Releases the current thread's scoped objects without disposing of them.
+     */
+    public static void clear() {
+      ThreadLocalCache.detach();
+    }
+
+    /**
+     * Releases the current thread's scoped objects, disposing of each via {@code disposer}. All
+     * objects are released even if disposal fails for some.
+     * 
+     * @param disposer Disposer to dispose of scoped objects with
+     * @throws ProvisionException if disposal fails for any object
+     */
+    public static void close(Disposer disposer) {
+      Validate.notNull(disposer, "Disposer cannot be null");
+      ThreadLocalCache cache = ThreadLocalCache.detach();
+      if (cache != null)
+        cache.dispose(disposer);
+    }
+
+    /**
+     * Returns an executor that runs tasks via {@code executor}, giving each task its own thread
+     * scope which is released when the task completes.
+     * 
+     * @param executor Executor to run tasks with
+     * @return Executor
+     */
+    public static Executor executor(Executor executor) {
+      return executor(executor, null);
+    }
+
+    /**
+     * Returns an executor that runs tasks via {@code executor}, giving each task its own thread
+     * scope which is released when the task completes, disposing of each scoped object via
+     * {@code disposer}. Tasks that are run from within another task on the same thread, such as by
+     * a caller runs policy, do not disturb the scoped objects of the enclosing task. If a task
+     * fails, failures to dispose of its objects are added to the task's exception as suppressed
+     * exceptions.
+     * 
+     * @param executor Executor to run tasks with
+     * @param disposer Disposer to dispose of scoped objects with, or null to release them only
+     * @return Executor
+     */
+    public static Executor executor(final Executor executor, final Disposer disposer) {
+      Validate.notNull(executor, "Executor cannot be null");
+
+      return new Executor() {
+        public void execute(final Runnable task) {
+          executor.execute(new Runnable() {
+            public void run() {
+              ThreadLocalCache enclosing = ThreadLocalCache.detach();
+              Throwable failure = null;
+
+              try {
+                task.run();
+              } catch (RuntimeException e) {
+                failure = e;
+                throw e;
+              } catch (Error e) {
+                failure = e;
+                throw e;
+              } finally {
+                ThreadLocalCache cache = ThreadLocalCache.attach(enclosing);
+                if (cache != null && disposer != null) {
+                  try {
+                    cache.dispose(disposer);
+                  } catch (RuntimeException e) {
+                    /** Report disposal failures without masking the task's own failure */
+                    if (failure == null)
+                      throw e;
+                    failure.addSuppressed(e);
+                  }
+                }
+              }
+            }
+          });
+        }
+      };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> Provider<T> scope(final Key<T> key, Provider<T> unscoped) {
+      final int slot = ThreadLocalCache.nextSlot(key);
+
+      return new ScopedProvider<T>(unscoped) {
+        public T get() {
+          ThreadLocalCache cache = ThreadLocalCache.getInstance();
+          @SuppressWarnings("unchecked")
+          T value = (T) cache.get(slot);
+
+          if (value == null) {
+            value = provider.get();
+            cache.set(slot, value);
+          }
+
+          return value;
+        }
+      };
+    }
+  }
+
+  /**
+   * Pool scope. Maintains a bounded pool of objects for each binding in the scope. Provisioning a
+   * pooled binding borrows an object from its pool, which must be returned via
+   * {@link #release(Key, Object)}, or borrowed as a {@link Lease} via {@link #lease(Key)} and
+   * returned by closing the lease.
+   * 
+   * <pre>
+   * bind(Connection.class).to(ConnectionImpl.class).in(new PoolScope(10).withTimeout(5, TimeUnit.SECONDS));
+   * 
+   * try (Lease&lt;Connection&gt; lease = PoolScope.lease(Key.get(Connection.class))) {
+   *   lease.get().execute(query);
+   * }</pre>
+   * 
+   * <p>
+   * Pools are created when bindings are scoped, so the scope must be configured before it is used
+   * in a binding.
+   */
+  public static class PoolScope implements Scope {
+    private static final Map<Key<?>, ObjectPool<?>> pools = new ConcurrentHashMap<Key<?>, ObjectPool<?>>();
+    private final int poolSize;
+    private long timeoutNanos = -1;
+    private long leakThresholdNanos = -1;
+    private Overflow overflow = Overflow.FAIL;
+    private Lifecycle lifecycle;
+
+    /**
+     * Policy applied when no pooled object becomes available within the acquire timeout.
+     */
+    public enum Overflow {
+      /** Fails with a ProvisionException */
+      FAIL,
+      /** Creates a transient object which is discarded rather than pooled when released */
+      CREATE;
+    }
+
+    /**
+     * Hooks that are invoked as pooled objects are borrowed and returned.
+     */
+    public interface Lifecycle {
+      /**
+       * Validates an idle {@code object} before it is borrowed. Invalid objects are discarded and
+       * replaced.
+       * 
+       * @param key Key of the pooled binding
+       * @param object Idle object
+       * @return boolean Whether {@code object} may be borrowed
+       */
+      boolean validate(Key<?> key, Object object);
+
+      /**
+       * Resets {@code object} as it is returned to the pool. Objects for which this fails are
+       * discarded.
+       * 
+       * @param key Key of the pooled binding
+       * @param object Returned object
+       */
+      void reset(Key<?> key, Object object);
+    }
+
+    /**
+     * A borrowed pooled object which is returned to its pool when closed.
+     * 
+     * @param <T> Pooled type
+     */
+    public static final class Lease<T> implements AutoCloseable {
+      private final ObjectPool<T> pool;
+      private final T object;
+      private final AtomicBoolean closed = new AtomicBoolean();
+
+      /**
+       * Creates a new Lease object.
+       * 
+       * @param pool Pool that {@code object} was borrowed from
+       * @param object Borrowed object
+       */
+      Lease(ObjectPool<T> pool, T object) {
+        this.pool = pool;
+        this.object = object;
+      }
+
+      /**
+       * Gets the borrowed object.
+       * 
+       * @return T
+       * @throws IllegalStateException if the lease is closed
+       */
+      public T get() {
+        if (closed.get())
+          throw new IllegalStateException("Lease is closed");
+        return object;
+      }
+
+      /**
+       * Returns the borrowed object to its pool. Subsequent calls have no effect.
+       */
+      public void close() {
+        if (closed.compareAndSet(false, true))
+          pool.release(object);
+      }
+    }
+
+    /**
+     * A snapshot of a pool's metrics.
+     */
+    public static final class Metrics {
+      private final int size;
+      private final int created;
+      private final int borrowed;
+      private final int idle;
+      private final long acquisitions;
+      private final long waitNanos;
+      private final long timeouts;
+      private final long overflows;
+      private final long discarded;
+
+      /**
+       * Creates a new Metrics object.
+       * 
+       * @param size Maximum number of pooled objects
+       * @param created Number of pooled objects in existence
+       * @param borrowed Number of pooled objects borrowed
+       * @param idle Number of pooled objects idle
+       * @param acquisitions Number of acquisition attempts
+       * @param waitNanos Time spent waiting for pooled objects
+       * @param timeouts Number of acquisitions that timed out
+       * @param overflows Number of transient overflow objects created
+       * @param discarded Number of pooled objects discarded
+       */
+      public Metrics(int size, int created, int borrowed, int idle, long acquisitions,
+          long waitNanos, long timeouts, long overflows, long discarded) {
+        this.size = size;
+        this.created = created;
+        this.borrowed = borrowed;
+        this.idle = idle;
+        this.acquisitions = acquisitions;
+        this.waitNanos = waitNanos;
+        this.timeouts = timeouts;
+        this.overflows = overflows;
+        this.discarded = discarded;
+      }
+
+      /**
+       * Gets the maximum number of pooled objects.
+       * 
+       * @return int
+       */
+      public int getSize() {
+        return size;
+      }
+
+      /**
+       * Gets the number of pooled objects currently in existence.
+       * 
+       * @return int
+       */
+      public int getCreated() {
+        return created;
+      }
+
+      /**
+       * Gets the number of pooled objects currently borrowed.
+       * 
+       * @return int
+       */
+      public int getBorrowed() {
+        return borrowed;
+      }
+
+      /**
+       * Gets the number of pooled objects currently idle.
+       * 
+       * @return int
+       */
+      public int getIdle() {
+        return idle;
+      }
+
+      /**
+       * Gets the total number of acquisition attempts.
+       * 
+       * @return long
+       */
+      public long getAcquisitions() {
+        return acquisitions;
+      }
+
+      /**
+       * Gets the total time spent waiting for pooled objects, in nanoseconds.
+       * 
+       * @return long
+       */
+      public long getWaitNanos() {
+        return waitNanos;
+      }
+
+      /**
+       * Gets the number of acquisitions for which no pooled object became available in time.
+       * 
+       * @return long
+       */
+      public long getTimeouts() {
+        return timeouts;
+      }
+
+      /**
+       * Gets the number of transient overflow objects created.
+       * 
+       * @return long
+       */
+      public long getOverflows() {
+        return overflows;
+      }
+
+      /**
+       * Gets the number of pooled objects discarded by validation or failed resets.
+       * 
+       * @return long
+       */
+      public long getDiscarded() {
+        return discarded;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public String toString() {
+        return "Metrics[size=" + size + ", created=" + created + ", borrowed=" + borrowed
+            + ", idle=" + idle + ", acquisitions=" + acquisitions + ", waitNanos=" + waitNanos
+            + ", timeouts=" + timeouts + ", overflows=" + overflows + ", discarded=" + discarded
+            + "]";
+      }
+    }
+
+    /**
+     * An object that has been on loan for longer than its pool's leak threshold.
+     */
+    public static final class Leak {
+      private final Object object;
+      private final long ageNanos;
+      private final String thread;
+
+      /**
+       * Creates a new Leak object.
+       * 
+       * @param object Object on loan
+       * @param ageNanos Time the object has been on loan
+       * @param thread Name of the thread that borrowed the object
+       */
+      public Leak(Object object, long ageNanos, String thread) {
+        this.object = object;
+        this.ageNanos = ageNanos;
+        this.thread = thread;
+      }
+
+      /**
+       * Gets the object on loan.
+       * 
+       * @return Object
+       */
+      public Object getObject() {
+        return object;
+      }
+
+      /**
+       * Gets the time the object had been on loan when the leak was reported.
+       * 
+       * @param unit Time unit
+       * @return long
+       */
+      public long getAge(TimeUnit unit) {
+        return unit.convert(ageNanos, TimeUnit.NANOSECONDS);
+      }
+
+      /**
+       * Gets the name of the thread that borrowed the object.
+       * 
+       * @return String
+       */
+      public String getThread() {
+        return thread;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public String toString() {
+        return "Leak[object=" + object + ", ageNanos=" + ageNanos + ", thread=" + thread + "]";
+      }
+    }
+
+    /**
+     * Creates a new PoolScope object. Acquisitions wait indefinitely for a pooled object.
+     * 
+     * @param poolSize Pool size
+     * @throws IllegalArgumentException if {@code poolSize} is not positive
+     */
+    public PoolScope(int poolSize) {
+      if (poolSize <= 0)
+        throw new IllegalArgumentException("Pool size must be positive");
+      this.poolSize = poolSize;
+    }
+
+    /**
+     * Sets the time to wait for a pooled object before applying the overflow policy.
+     * 
+     * @param timeout Timeout, where zero does not wait
+     * @param unit Timeout unit
+     * @return PoolScope
+     */
+    public PoolScope withTimeout(long timeout, TimeUnit unit) {
+      Validate.notNull(unit, "Time unit cannot be null");
+      if (timeout < 0)
+        throw new IllegalArgumentException("Timeout cannot be negative");
+      timeoutNanos = unit.toNanos(timeout);
+      return this;
+    }
+
+    /**
+     * Sets the time after which a borrowed object that has not been released is reported as leaked
+     * by {@link #leaks(Key)}. By default loans are not tracked and leaks are not reported.
+     * 
+     * @param threshold Leak threshold
+     * @param unit Threshold unit
+     * @return PoolScope
+     */
+    public PoolScope withLeakThreshold(long threshold, TimeUnit unit) {
+      Validate.notNull(unit, "Time unit cannot be null");
+      if (threshold < 0)
+        throw new IllegalArgumentException("Leak threshold cannot be negative");
+      leakThresholdNanos = unit.toNanos(threshold);
+      return this;
+    }
+
+    /**
+     * Sets the policy applied when no pooled object becomes available in time. Defaults to
+     * {@link Overflow#FAIL}.
+     * 
+     * @param overflow Overflow policy
+     * @return PoolScope
+     */
+    public PoolScope withOverflow(Overflow overflow) {
+      Validate.notNull(overflow, "Overflow policy cannot be null");
+      this.overflow = overflow;
+      return this;
+    }
+
+    /**
+     * Sets hooks that validate and reset pooled objects.
+     * 
+     * @param lifecycle Lifecycle hooks
+     * @return PoolScope
+     */
+    public PoolScope withLifecycle(Lifecycle lifecycle) {
+      Validate.notNull(lifecycle, "Lifecycle cannot be null");
+      this.lifecycle = lifecycle;
+      return this;
+    }
+
+    /**
+     * Borrows an object for {@code key} as a lease, which returns the object when closed.
+     * 
+     * @param <T> Pooled type
+     * @param key Key of pooled binding
+     * @return Lease<T>
+     * @throws ConfigurationException if {@code key} is not bound in a pool scope
+     * @throws ProvisionException if no object could be borrowed
+     */
+    public static <T> Lease<T> lease(Key<T> key) {
+      ObjectPool<T> pool = poolFor(key);
+      return new Lease<T>(pool, pool.acquire());
+    }
+
+    /**
+     * Borrows an object for {@code type} as a lease, which returns the object when closed.
+     * 
+     * @param <T> Pooled type
+     * @param type Pooled type
+     * @return Lease<T>
+     * @throws ConfigurationException if {@code type} is not bound in a pool scope
+     * @throws ProvisionException if no object could be borrowed
+     */
+    public static <T> Lease<T> lease(Class<T> type) {
+      return lease(Key.get(type));
+    }
+
+    /**
+     * Gets the metrics of the pool for {@code key}.
+     * 
+     * @param key Key of pooled binding
+     * @return Metrics
+     * @throws ConfigurationException if {@code key} is not bound in a pool scope
+     */
+    public static Metrics metrics(Key<?> key) {
+      return poolFor(key).metrics();
+    }
+
+    /**
+     * Gets the objects borrowed from the pool for {@code key} that have been on loan for longer
+     * than the pool's leak threshold, longest first.
+     * 
+     * @param key Key of pooled binding
+     * @return List of leaks, empty if the pool has no leak threshold
+     * @throws ConfigurationException if {@code key} is not bound in a pool scope
+     */
+    public static List<Leak> leaks(Key<?> key) {
+      return poolFor(key).leaks();
+    }
+
+    /**
+     * Releases an object back to the pool.
+     * 
+     * @param <T> Type
+     * @param key Key of object to release
+     * @param object Object to release
+     * @throws IllegalArgumentException if {@code object} is not on loan from the pool, such as when
+     *           it was already released
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void release(Key<T> key, T object) {
+      ObjectPool<T> pool = (ObjectPool<T>) pools.get(key);
+      if (pool != null)
+        pool.release(object);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> Provider<T> scope(final Key<T> key, Provider<T> unscoped) {
+      final ObjectPool<T> pool = new ObjectPool<T>(key, unscoped, poolSize, timeoutNanos,
+          leakThresholdNanos, overflow, lifecycle);
+      pools.put(key, pool);
+
+      return new Provider<T>() {
+        public T get() {
+          return pool.acquire();
+        }
+      };
+    }
+
+    /**
+     * Gets the pool for {@code key}.
+     * 
+     * @throws ConfigurationException if {@code key} is not bound in a pool scope
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectPool<T> poolFor(Key<T> key) {
+      ObjectPool<T> pool = (ObjectPool<T>) pools.get(key);
+      if (pool == null)
+        throw new ConfigurationException(key + " is not bound in a pool scope");
+      return pool;
+    }
+  }
+
+  /**
+   * Provides common behavior for scoped objects that are scoped by some shared context, such as a
+   * session or tenant. Contexts are held weakly and compared by equality, so that a context's
+   * scoped objects become unreachable along with the context. Scoped objects that already exist are
+   * retrieved without locking, while creation synchronizes on the context's storage.
+   * 
+   * <p>
+   * A context's objects are held strongly by the scope until the context is collected, so a scoped
+   * object that references its own context, directly or through other objects, keeps the context
+   * reachable and is never released by garbage collection. Such contexts must be released
+   * explicitly via {@link #close(Object)}, or bounded by a maximum number of contexts.
+   * 
+   * <p>
+   * When constructed with a maximum number of contexts, contexts are evicted in the order they
+   * were created once the maximum is exceeded, regardless of how recently their objects were
+   * retrieved. This keeps retrieval of existing objects free of writes.
+   * 
+   * @param <C> Context type
+   */
+  public abstract static class SharedContextScope<C> implements Scope {
+    private final ConcurrentMap<Object, Map<Key<?>, Object>> scoped = new ConcurrentHashMap<Object, Map<Key<?>, Object>>();
+    private final ReferenceQueue<C> collected = new ReferenceQueue<C>();
+    /** Contexts in order of creation, maintained when the scope is bounded */
+    private final Queue<ContextReference<C>> created;
+    /** Number of contexts that were closed or collected since their creation order was pruned */
+    private final AtomicInteger released = new AtomicInteger();
+    private final int maxContexts;
+
+    /**
+     * A weak reference to a context, equal to other references and lookups for an equal context.
+     * 
+     * @param <C> Context type
+     */
+    private static final class ContextReference<C> extends WeakReference<C> {
+      final int hash;
+      final Storage storage = new Storage();
+
+      ContextReference(C context, ReferenceQueue<C> queue) {
+        super(context, queue);
+        hash = context.hashCode();
+      }
+
+      @Override
+      public boolean equals(Object object) {
+        if (object == this)
+          return true;
+        Object context = get();
+        if (context == null)
+          return false;
+        if (object instanceof ContextReference)
+          object = ((ContextReference<?>) object).get();
+        else if (object instanceof ContextLookup)
+          object = ((ContextLookup) object).context;
+        else
+          return false;
+        return context == object || context.equals(object);
+      }
+
+      @Override
+      public int hashCode() {
+        return hash;
+      }
+    }
+
+    /**
+     * Scoped objects for a context. Compared by identity so that a context's storage is only
+     * removed by eviction if it has not been replaced.
+     */
+    private static final class Storage extends ConcurrentHashMap<Key<?>, Object> {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean equals(Object object) {
+        return object == this;
+      }
+
+      @Override
+      public int hashCode() {
+        return System.identityHashCode(this);
+      }
+    }
+
+    /**
+     * A strong key for looking up the storage of a context.
+     */
+    private static final class ContextLookup {
+      final Object context;
+
+      ContextLookup(Object context) {
+        this.context = context;
+      }
+
+      @Override
+      public boolean equals(Object object) {
+        if (!(object instanceof ContextReference))
+          return false;
+        Object other = ((ContextReference<?>) object).get();
+        return context == other || context.equals(other);
+      }
+
+      @Override
+      public int hashCode() {
+        return context.hashCode();
+      }
+    }
+
+    /**
+     * Creates a new SharedContextScope object with no limit on the number of contexts.
+     */
+    protected SharedContextScope() {
+      maxContexts = 0;
+      created = null;
+    }
+
+    /**
+     * Creates a new SharedContextScope object which retains objects for at most
+     * {@code maxContexts} contexts, evicting the first created context when exceeded.
+     * 
+     * @param maxContexts Maximum number of resident contexts
+     * @throws IllegalArgumentException if {@code maxContexts} is not positive
+     */
+    protected SharedContextScope(int maxContexts) {
+      if (maxContexts <= 0)
+        throw new IllegalArgumentException("Maximum contexts must be positive");
+      this.maxContexts = maxContexts;
+      created = new ConcurrentLinkedQueue<ContextReference<C>>();
+    }
+
+    /**
+     * Gets the current shared context.
+     * 
+     * @return shared context
+     */
+    protected abstract C getContext();
+
+    /**
+     * Releases all objects scoped for {@code context}.
+     * 
+     * @param context Context to release objects for
+     */
+    public void close(C context) {
+      Validate.notNull(context, "Context cannot be null");
+      if (scoped.remove(new ContextLookup(context)) != null && created != null)
+        released.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of contexts which currently have scoped objects.
+     * 
+     * @return int
+     */
+    public int residentContexts() {
+      expungeCollected();
+      return scoped.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> Provider<T> scope(final Key<T> key, Provider<T> unscoped) {
+      return new ScopedProvider<T>(unscoped) {
+        @SuppressWarnings("unchecked")
+        public T get() {
+          C context = getContext();
+          if (context == null)
+            throw new ProvisionException("No context is available for " + key);
+
+          Map<Key<?>, Object> storage = storageFor(context);
+          T object = (T) storage.get(key);
+          if (object != null)
+            return object;
+
+          synchronized (storage) {
+            object = (T) storage.get(key);
+            if (object == null) {
+              object = provider.get();
+              if (object != null)
+                storage.put(key, object);
+            }
+          }
+
+          return object;
+        }
+      };
+    }
+
+    /**
+     * Gets the storage for {@code context}, creating it if necessary.
+     * 
+     * @param context Context
+     * @return Map<Key<?>, Object>
+     */
+    private Map<Key<?>, Object> storageFor(C context) {
+      Map<Key<?>, Object> storage = scoped.get(new ContextLookup(context));
+      if (storage != null)
+        return storage;
+
+      expungeCollected();
+      ContextReference<C> reference = new ContextReference<C>(context, collected);
+      storage = scoped.putIfAbsent(reference, reference.storage);
+      if (storage != null)
+        return storage;
+
+      if (created != null) {
+        created.offer(reference);
+        if (released.get() > maxContexts)
+          pruneCreated();
+        while (scoped.size() > maxContexts) {
+          ContextReference<C> eldest = created.poll();
+          if (eldest == null)
+            break;
+          scoped.remove(eldest, eldest.storage);
+        }
+      }
+
+      return reference.storage;
+    }
+
+    /**
+     * Removes the storage of contexts that have been garbage collected.
+     */
+    private void expungeCollected() {
+      for (Reference<? extends C> reference; (reference = collected.poll()) != null;)
+        if (scoped.remove(reference) != null && created != null)
+          released.incrementAndGet();
+    }
+
+    /**
+     * Removes contexts that are no longer resident from the creation order. Runs once per
+     * {@code maxContexts} releases, so that releases take amortized constant time.
+     */
+    private void pruneCreated() {
+      released.set(0);
+      for (Iterator<ContextReference<C>> iterator = created.iterator(); iterator.hasNext();) {
+        ContextReference<C> reference = iterator.next();
+        if (scoped.get(reference) != reference.storage)
+          iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Expiring scope. Scopes an object for each binding until it expires, after which it is rebuilt.
+   * Useful for singletons built from data that becomes stale.
+   * 
+   * <p>
+   * When configured to refresh ahead via {@link #withRefreshAfter(long, TimeUnit)}, the first
+   * retrieval after the refresh time rebuilds the object in the background while callers continue
+   * to receive the current object, which is replaced atomically once the new object is built.
+   * Objects are only rebuilt in the caller's thread when they are first built or have expired,
+   * in which case one caller rebuilds while others for the same binding wait. Refresh times are
+   * jittered so that bindings created together do not refresh together.
+   * 
+   * <pre>
+   * bind(RoutingTable.class).in(new ExpiringScope(10, TimeUnit.MINUTES).withRefreshAfter(8, TimeUnit.MINUTES));</pre>
+   * 
+   * <p>
+   * Background refreshes do not receive explicit construction arguments. A refresh that completes
+   * after the object was expired or rebuilt is discarded. A failed refresh leaves the current object
+   * in place and is retried on a retrieval after a jittered backoff of half its remaining lifetime.
+   */
+  public static class ExpiringScope implements Scope {
+    private static volatile Executor defaultExecutor;
+    private final Map<Key<?>, ExpiringProvider<?>> providers = new ConcurrentHashMap<Key<?>, ExpiringProvider<?>>();
+    private final long ttlNanos;
+    private long refreshNanos = -1;
+    private double jitter = 0.1;
+    private Executor executor;
+
+    /**
+     * A scoped object along with the times at which it should be refreshed and expired.
+     * 
+     * @param <T> Scoped type
+     */
+    private static final class Entry<T> {
+      final T instance;
+      final long refreshAt;
+      final long expiresAt;
+
+      Entry(T instance, long refreshAt, long expiresAt) {
+        this.instance = instance;
+        this.refreshAt = refreshAt;
+        this.expiresAt = expiresAt;
+      }
+    }
+
+    /**
+     * Provides the current object for a binding, rebuilding it as it becomes stale.
+     * 
+     * @param <T> Scoped type
+     */
+    private final class ExpiringProvider<T> extends ScopedProvider<T> {
+      private final AtomicBoolean refreshing = new AtomicBoolean();
+      private volatile Entry<T> entry;
+
+      /**
+       * Creates a new ExpiringProvider object.
+       * 
+       * @param unscoped Unscoped provider
+       */
+      ExpiringProvider(Provider<T> unscoped) {
+        super(unscoped);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      public T get() {
+        Entry<T> current = entry;
+        long now = System.nanoTime();
+
+        if (current == null || now - current.expiresAt >= 0)
+          return rebuild(current);
+        if (now - current.refreshAt >= 0 && refreshing.compareAndSet(false, true))
+          refreshAsync(current);
+        return current.instance;
+      }
+
+      /**
+       * Refreshes the current object in the background, unless there is no current object or a
+       * refresh is already underway.
+       */
+      void refresh() {
+        Entry<T> current = entry;
+        if (current != null && refreshing.compareAndSet(false, true))
+          refreshAsync(current);
+      }
+
+      /**
+       * Expires the current object so that it is rebuilt on the next retrieval.
+       */
+      synchronized void expire() {
+        entry = null;
+      }
+
+      /**
+       * Rebuilds the object in the current thread, unless another thread has already replaced
+       * {@code stale}.
+       * 
+       * @param stale Stale entry
+       * @return T
+       */
+      private synchronized T rebuild(Entry<T> stale) {
+        Entry<T> current = entry;
+        if (current != stale && current != null && System.nanoTime() - current.expiresAt < 0)
+          return current.instance;
+
+        T instance = provider.get();
+        entry = entryFor(instance);
+        return instance;
+      }
+
+      /**
+       * Rebuilds the object in the background, replacing {@code submitted} once the object is
+       * built unless it has since been expired or replaced. If the rebuild fails, the refresh of
+       * {@code submitted} is postponed.
+       * 
+       * @param submitted Entry being refreshed
+       */
+      private void refreshAsync(final Entry<T> submitted) {
+        try {
+          executor().execute(new Runnable() {
+            public void run() {
+              try {
+                T instance = provider.get();
+                synchronized (ExpiringProvider.this) {
+                  if (entry == submitted)
+                    entry = entryFor(instance);
+                }
+              } catch (RuntimeException e) {
+                synchronized (ExpiringProvider.this) {
+                  if (entry == submitted)
+                    entry = postponed(submitted);
+                }
+              } finally {
+                refreshing.set(false);
+              }
+            }
+          });
+        } catch (RuntimeException e) {
+          refreshing.set(false);
+        }
+      }
+
+      /**
+       * Creates a copy of {@code failed} whose refresh is retried halfway to its expiry, subject to
+       * jitter.
+       */
+      private Entry<T> postponed(Entry<T> failed) {
+        long now = System.nanoTime();
+        long remaining = Math.max(failed.expiresAt - now, 0);
+        return new Entry<T>(failed.instance, now + jittered(remaining / 2), failed.expiresAt);
+      }
+
+      /**
+       * Creates an entry for {@code instance} built now.
+       */
+      private Entry<T> entryFor(T instance) {
+        long now = System.nanoTime();
+        long refreshAt = refreshNanos < 0 ? now + ttlNanos : now + jittered(refreshNanos);
+        return new Entry<T>(instance, refreshAt, now + ttlNanos);
+      }
+    }
+
+    /**
+     * Creates a new ExpiringScope object whose objects expire {@code ttl} after they are built.
+     * 
+     * @param ttl Time to live
+     * @param unit Time to live unit
+     * @throws IllegalArgumentException if {@code ttl} is not positive
+     */
+    public ExpiringScope(long ttl, TimeUnit unit) {
+      Validate.notNull(unit, "Time unit cannot be null");
+      if (ttl <= 0)
+        throw new IllegalArgumentException("Time to live must be positive");
+      ttlNanos = unit.toNanos(ttl);
+    }
+
+    /**
+     * Refreshes objects in the background once {@code refreshAfter} has elapsed since they were
+     * built, subject to jitter.
+     * 
+     * @param refreshAfter Time after which to refresh, which should be less than the time to live
+     * @param unit Time unit
+     * @return ExpiringScope
+     * @throws IllegalArgumentException if {@code refreshAfter} is not positive or exceeds the time
+     *           to live
+     */
+    public ExpiringScope withRefreshAfter(long refreshAfter, TimeUnit unit) {
+      Validate.notNull(unit, "Time unit cannot be null");
+      long nanos = unit.toNanos(refreshAfter);
+      if (nanos <= 0 || nanos > ttlNanos)
+        throw new IllegalArgumentException(
+            "Refresh time must be positive and within the time to live");
+      refreshNanos = nanos;
+      return this;
+    }
+
+    /**
+     * Sets the fraction by which refresh times are randomly brought forward. Defaults to 0.1.
+     * 
+     * @param jitter Jitter fraction between 0 and 1
+     * @return ExpiringScope
+     * @throws IllegalArgumentException if {@code jitter} is not between 0 and 1
+     */
+    public ExpiringScope withJitter(double jitter) {
+      if (jitter < 0 || jitter > 1)
+        throw new IllegalArgumentException("Jitter must be between 0 and 1");
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * Sets the executor that background refreshes are performed with. Defaults to a shared pool of
+     * daemon threads.
+     * 
+     * @param executor Refresh executor
+     * @return ExpiringScope
+     */
+    public ExpiringScope withExecutor(Executor executor) {
+      Validate.notNull(executor, "Executor cannot be null");
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Expires the object scoped for {@code key}, so that it is rebuilt on its next retrieval.
+     * 
+     * @param key Key of scoped binding
+     */
+    public void expire(Key<?> key) {
+      ExpiringProvider<?> provider = providers.get(key);
+      if (provider != null)
+        provider.expire();
+    }
+
+    /**
+     * Refreshes the object scoped for {@code key} in the background, if it has been built and is
+     * not already being refreshed.
+     * 
+     * @param key Key of scoped binding
+     */
+    public void refresh(Key<?> key) {
+      ExpiringProvider<?> provider = providers.get(key);
+      if (provider != null)
+        provider.refresh();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+      ExpiringProvider<T> provider = new ExpiringProvider<T>(unscoped);
+      providers.put(key, provider);
+      return provider;
+    }
+
+    /**
+     * Brings {@code nanos} forward by a random fraction of up to the jitter.
+     */
+    private long jittered(long nanos) {
+      return jitter == 0 ? nanos : nanos
+          - (long) (nanos * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Gets the refresh executor, creating the default executor if necessary.
+     */
+    private Executor executor() {
+      if (executor != null)
+        return executor;
+
+      Executor result = defaultExecutor;
+      if (result == null) {
+        synchronized (ExpiringScope.class) {
+          result = defaultExecutor;
+          if (result == null)
+            defaultExecutor = result = Executors.newCachedThreadPool(new ThreadFactory() {
+              private final AtomicInteger threads = new AtomicInteger();
+
+              public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "fabrique-refresh-"
+                    + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+              }
+            });
+        }
+      }
+
+      return result;
+    }
+  }
+
+  /**
+   * Soft scope. Scopes a single object for each binding, as with singletons, but holds it softly so
+   * that it may be collected under heap pressure rather than causing an {@link OutOfMemoryError}.
+   * Collected objects are rebuilt transparently via the binding's provider on their next retrieval.
+   * Suitable for large, rebuildable objects such as caches.
+   * 
+   * <p>
+   * A heap usage threshold may be given, below which objects are held strongly. Once heap usage
+   * reaches the threshold, all objects in the scope are held softly until it falls below it again.
+   * Heap usage is sampled at most every 100 milliseconds.
+   * 
+   * <pre>
+   * bind(IndexCache.class).in(new SoftScope(0.8));</pre>
+   * 
+   * <p>
+   * Builds, evictions and rebuilds are reported via {@link #stats()} and {@link #stats(Key)}.
+   */
+  public static class SoftScope implements Scope {
+    private static final long HEAP_CHECK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+    private final Map<Key<?>, SoftProvider<?>> providers = new ConcurrentHashMap<Key<?>, SoftProvider<?>>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<Object>();
+    private final double maxHeapUsage;
+    private volatile long nextHeapCheck = System.nanoTime();
+    private volatile boolean underPressure;
+
+    /**
+     * A snapshot of soft scope statistics.
+     */
+    public static final class Stats {
+      private final long builds;
+      private final long evictions;
+      private final long rebuilds;
+
+      /**
+       * Creates a new Stats object.
+       * 
+       * @param builds Number of objects built
+       * @param evictions Number of objects collected
+       * @param rebuilds Number of objects rebuilt after being collected
+       */
+      public Stats(long builds, long evictions, long rebuilds) {
+        this.builds = builds;
+        this.evictions = evictions;
+        this.rebuilds = rebuilds;
+      }
+
+      /**
+       * Gets the number of objects built, including rebuilds.
+       * 
+       * @return long
+       */
+      public long getBuilds() {
+        return builds;
+      }
 
-/**
- * Provides default scope implementations.
- */
-public final class Scopes {
-  /** Singleton scope */
-  public static final Scope SINGLETON = new SingletonScope();
+      /**
+       * Gets the number of objects collected under heap pressure.
+       * 
+       * @return long
+       */
+      public long getEvictions() {
+        return evictions;
+      }
 
-  /** Eager Singleton scope */
-  public static final Scope EAGER_SINGLETON = new SingletonScope();
+      /**
+       * Gets the number of objects rebuilt after being collected.
+       * 
+       * @return long
+       */
+      public long getRebuilds() {
+        return rebuilds;
+      }
 
-  /**
-   * Thread scope
-   */
-  public static final Scope THREAD = new Scope() {
-    public <T> ScopedProvider<T> scope(final Key<T> key) {
-      return new ScopedProvider<T>() {
-        public T get() {
-          ThreadLocalCache cache = ThreadLocalCache.getInstance();
-          T value = cache.get(key);
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public String toString() {
+        return "Stats[builds=" + builds + ", evictions=" + evictions + ", rebuilds=" + rebuilds
+            + "]";
+      }
+    }
 
-          if (value == null) {
-            value = provider.get();
-            cache.add(key, value);
-          }
+    /**
+     * Soft reference to a scoped object that records its provider for eviction accounting.
+     * 
+     * @param <T> Scoped type
+     */
+    private static final class SoftInstance<T> extends SoftReference<T> {
+      final SoftProvider<?> provider;
 
-          return value;
-        }
-      };
+      SoftInstance(T instance, ReferenceQueue<Object> queue, SoftProvider<?> provider) {
+        super(instance, queue);
+        this.provider = provider;
+      }
     }
-  };
 
-  /** Simple scope */
-  public static final SimpleScope SIMPLE = new SimpleScope();
+    /**
+     * Provides the softly held object for a binding, rebuilding it once collected.
+     * 
+     * @param <T> Scoped type
+     */
+    private final class SoftProvider<T> extends ScopedProvider<T> {
+      final LongAdder builds = new LongAdder();
+      final LongAdder evictions = new LongAdder();
+      final LongAdder rebuilds = new LongAdder();
+      private volatile SoftInstance<T> reference;
+      /** Strong reference to the object, held while the heap is not under pressure */
+      volatile T strong;
 
-  /**
-   * Pool scope. Maintains a sized pool of objects.
-   */
-  public static class PoolScope implements Scope {
-    private static Map<Key<?>, BlockingQueue<?>> pools = new HashMap<Key<?>, BlockingQueue<?>>();
-    private int poolSize;
+      /**
+       * Creates a new SoftProvider object.
+       * 
+       * @param unscoped Unscoped provider
+       */
+      SoftProvider(Provider<T> unscoped) {
+        super(unscoped);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      public T get() {
+        drainCollected();
+        boolean soft = isUnderPressure();
+        SoftInstance<T> current = reference;
+        T instance = current == null ? null : current.get();
+        if (instance == null)
+          return build(soft);
+
+        if (soft)
+          strong = null;
+        else if (strong == null)
+          strong = instance;
+        return instance;
+      }
+
+      /**
+       * Builds the object unless another thread has already rebuilt it.
+       * 
+       * @param soft Whether to hold the object softly only
+       * @return T
+       */
+      private synchronized T build(boolean soft) {
+        SoftInstance<T> current = reference;
+        T instance = current == null ? null : current.get();
+        if (instance != null)
+          return instance;
+
+        instance = provider.get();
+        builds.increment();
+        if (current != null)
+          rebuilds.increment();
+        reference = new SoftInstance<T>(instance, collected, this);
+        strong = soft ? null : instance;
+        return instance;
+      }
+
+      /**
+       * Gets a snapshot of the provider's statistics.
+       */
+      Stats stats() {
+        return new Stats(builds.sum(), evictions.sum(), rebuilds.sum());
+      }
+    }
+
+    /**
+     * Creates a new SoftScope object that always holds objects softly.
+     */
+    public SoftScope() {
+      maxHeapUsage = 0;
+      underPressure = true;
+    }
 
     /**
-     * Creates a new PoolScope object.
+     * Creates a new SoftScope object that holds objects strongly while the fraction of the maximum
+     * heap in use is below {@code maxHeapUsage}, and softly otherwise.
      * 
-     * @param poolSize Pool size
+     * @param maxHeapUsage Heap usage fraction between 0 and 1
+     * @throws IllegalArgumentException if {@code maxHeapUsage} is not between 0 and 1
      */
-    public PoolScope(int poolSize) {
-      this.poolSize = poolSize;
+    public SoftScope(double maxHeapUsage) {
+      if (maxHeapUsage < 0 || maxHeapUsage > 1)
+        throw new IllegalArgumentException("Heap usage must be between 0 and 1");
+      this.maxHeapUsage = maxHeapUsage;
+      underPressure = maxHeapUsage == 0;
     }
 
     /**
-     * Gets a pool for the given key.
+     * Gets the statistics of all bindings in the scope.
      * 
-     * @param <T> Pooled Type
-     * @param key .
-     * @return Pool
+     * @return Stats
      */
-    @SuppressWarnings("unchecked")
-    public static <T> BlockingQueue<T> getPool(Key<T> key) {
-      return (BlockingQueue<T>) pools.get(key);
+    public Stats stats() {
+      drainCollected();
+      long builds = 0, evictions = 0, rebuilds = 0;
+      for (SoftProvider<?> provider : providers.values()) {
+        Stats stats = provider.stats();
+        builds += stats.getBuilds();
+        evictions += stats.getEvictions();
+        rebuilds += stats.getRebuilds();
+      }
+
+      return new Stats(builds, evictions, rebuilds);
     }
 
     /**
-     * Gets a pool for the given type.
+     * Gets the statistics of the binding for {@code key}.
      * 
-     * @param <T> Pooled Type
-     * @param type .
-     * @return Pool
+     * @param key Key of scoped binding
+     * @return Stats
+     * @throws ConfigurationException if no binding for {@code key} is soft scoped by this scope
      */
-    @SuppressWarnings("unchecked")
-    public static <T> BlockingQueue<T> getPool(Class<T> type) {
-      return (BlockingQueue<T>) pools.get(Key.get(type));
+    public Stats stats(Key<?> key) {
+      SoftProvider<?> provider = providers.get(key);
+      if (provider == null)
+        throw new ConfigurationException("No soft scoped binding exists for " + key);
+      drainCollected();
+      return provider.stats();
     }
 
     /**
-     * Releases an object back to the pool.
+     * {@inheritDoc}
+     */
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+      SoftProvider<T> provider = new SoftProvider<T>(unscoped);
+      providers.put(key, provider);
+      return provider;
+    }
+
+    /**
+     * Records evictions for objects that have been collected.
+     */
+    private void drainCollected() {
+      Reference<?> reference;
+      while ((reference = collected.poll()) != null)
+        ((SoftInstance<?>) reference).provider.evictions.increment();
+    }
+
+    /**
+     * Determines whether the heap is under pressure, sampling heap usage if it has not been sampled
+     * recently. Releases strong references to all objects in the scope when pressure is first
+     * detected.
+     */
+    private boolean isUnderPressure() {
+      if (maxHeapUsage == 0)
+        return true;
+
+      long now = System.nanoTime();
+      if (now - nextHeapCheck < 0)
+        return underPressure;
+
+      nextHeapCheck = now + HEAP_CHECK_INTERVAL;
+      Runtime runtime = Runtime.getRuntime();
+      double usage = (runtime.totalMemory() - runtime.freeMemory()) / (double) runtime.maxMemory();
+      boolean pressure = usage >= maxHeapUsage;
+      if (pressure && !underPressure)
+        for (SoftProvider<?> provider : providers.values())
+          provider.strong = null;
+      underPressure = pressure;
+      return pressure;
+    }
+  }
+
+  /**
+   * Flyweight scope. Caches an object for each distinct set of explicit construction arguments a
+   * binding is provided with, so that repeated requests with equal arguments return the shared
+   * object without constructing anything. Arguments are compared via their {@code equals} methods,
+   * making the scope suitable for immutable, value-like types.
+   * 
+   * <pre>
+   * bind(CurrencyFormat.class).forParams(String.class).in(new FlyweightScope(256));
+   * ObjectFactory.getInstance(CurrencyFormat.class, "USD");</pre>
+   * 
+   * <p>
+   * Each binding caches at most the given number of objects. Once exceeded, the least recently
+   * used objects are evicted in a batch, with recency tracked approximately so that retrievals of
+   * cached objects do not contend. Concurrent requests for arguments that are not cached construct
+   * a single object. Retrieving a cached object compares the arguments in place, and they are only
+   * copied when a new object is cached.
+   */
+  public static class FlyweightScope implements Scope {
+    private final Map<Key<?>, FlyweightProvider<?>> providers = new ConcurrentHashMap<Key<?>, FlyweightProvider<?>>();
+    private final int maxInstances;
+
+    /**
+     * A copy of explicit construction arguments, compared element-wise.
+     */
+    private static final class Arguments {
+      static final Arguments NONE = new Arguments(null);
+      /** Arguments, or null if there are none */
+      final Object[] args;
+      final int hashCode;
+
+      Arguments(Object[] args) {
+        this.args = args;
+        hashCode = Arrays.hashCode(args);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public boolean equals(Object object) {
+        return object instanceof Arguments && Arrays.equals(args, ((Arguments) object).args);
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      @Override
+      public int hashCode() {
+        return hashCode;
+      }
+    }
+
+    /**
+     * Looks up the {@link Arguments} equal to the explicit arguments of the current provision,
+     * comparing against them in place so that lookups do not allocate.
+     */
+    private static final Object PROBE = new Object() {
+      @Override
+      public boolean equals(Object object) {
+        return object instanceof Arguments
+            && InjectionContext.current().scopeArgumentsEqual(((Arguments) object).args);
+      }
+
+      @Override
+      public int hashCode() {
+        return InjectionContext.current().scopeArgumentsHash();
+      }
+    };
+
+    /**
+     * A cached object, constructed once by the first caller to retrieve it.
      * 
-     * @param <T> Type
-     * @param key Key of object to release
-     * @param object Object to release
+     * @param <T> Scoped type
      */
-    @SuppressWarnings("unchecked")
-    public static <T> void release(Key<T> key, T object) {
-      BlockingQueue<T> pool = (BlockingQueue<T>) pools.get(key);
-      if (pool != null)
-        pool.add(object);
+    private static final class Entry<T> {
+      final Arguments arguments;
+      volatile T instance;
+      /** Tick at which the entry was last retrieved */
+      volatile long lastUsed;
 
+      Entry(Arguments arguments, long tick) {
+        this.arguments = arguments;
+        lastUsed = tick;
+      }
     }
 
     /**
-     * {@inheritDoc}
+     * Provides the cached object for the current explicit arguments.
+     * 
+     * @param <T> Scoped type
      */
-    public <T> ScopedProvider<T> scope(final Key<T> key) {
-      final BlockingQueue<T> pool = new ArrayBlockingQueue<T>(poolSize);
-      createPool(key, pool);
+    private final class FlyweightProvider<T> extends ScopedProvider<T> {
+      private final ConcurrentMap<Arguments, Entry<T>> instances = new ConcurrentHashMap<Arguments, Entry<T>>();
+      /** Advances with each cached object, ordering entries by recency */
+      private final AtomicLong ticks = new AtomicLong();
 
-      return new ScopedProvider<T>() {
-        int objectCount;
+      /**
+       * Creates a new FlyweightProvider object.
+       * 
+       * @param unscoped Unscoped provider
+       */
+      FlyweightProvider(Provider<T> unscoped) {
+        super(unscoped);
+      }
 
-        public T get() {
-          if (pool.isEmpty() && objectCount < poolSize) {
-            objectCount++;
-            return provider.get();
+      /**
+       * {@inheritDoc}
+       */
+      public T get() {
+        long tick = ticks.get();
+        Entry<T> entry = instances.get(PROBE);
+
+        if (entry == null) {
+          Object[] args = InjectionContext.current().copyScopeArguments();
+          Arguments arguments = args == null ? Arguments.NONE : new Arguments(args);
+          Entry<T> created = new Entry<T>(arguments, ticks.incrementAndGet());
+          entry = instances.putIfAbsent(arguments, created);
+          if (entry == null) {
+            entry = created;
+            if (instances.size() > maxInstances)
+              evict();
           }
+        } else if (entry.lastUsed != tick)
+          entry.lastUsed = tick;
+
+        T instance = entry.instance;
+        return instance == null ? construct(entry) : instance;
+      }
 
-          try {
-            return pool.take();
-          } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return null;
+      /**
+       * Constructs the object for {@code entry}, unless another thread already has. The entry is
+       * removed if construction fails.
+       * 
+       * @param entry Entry to construct object for
+       * @return T
+       */
+      private T construct(Entry<T> entry) {
+        synchronized (entry) {
+          T instance = entry.instance;
+          if (instance == null) {
+            try {
+              entry.instance = instance = provider.get();
+            } catch (RuntimeException e) {
+              instances.remove(entry.arguments, entry);
+              throw e;
+            }
           }
+
+          return instance;
         }
-      };
+      }
+
+      /**
+       * Evicts the least recently used entries, reducing the cache to three quarters of its
+       * capacity so that the cost of eviction is amortized over subsequent insertions.
+       */
+      private synchronized void evict() {
+        int excess = instances.size() - maxInstances * 3 / 4;
+        if (instances.size() <= maxInstances || excess <= 0)
+          return;
+
+        List<Map.Entry<Arguments, Entry<T>>> entries;
+        entries = new ArrayList<Map.Entry<Arguments, Entry<T>>>(instances.entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<Arguments, Entry<T>>>() {
+          public int compare(Map.Entry<Arguments, Entry<T>> a, Map.Entry<Arguments, Entry<T>> b) {
+            return Long.compare(a.getValue().lastUsed, b.getValue().lastUsed);
+          }
+        });
+
+        for (int i = 0; i < excess && i < entries.size(); i++)
+          instances.remove(entries.get(i).getKey(), entries.get(i).getValue());
+      }
+    }
+
+    /**
+     * Creates a new FlyweightScope object that caches up to {@code maxInstances} objects for each
+     * binding.
+     * 
+     * @param maxInstances Maximum number of cached objects per binding
+     * @throws IllegalArgumentException if {@code maxInstances} is not positive
+     */
+    public FlyweightScope(int maxInstances) {
+      if (maxInstances <= 0)
+        throw new IllegalArgumentException("Maximum instances must be positive");
+      this.maxInstances = maxInstances;
     }
 
     /**
-     * Creates a pool.
+     * Gets the number of objects cached for {@code key}.
      * 
-     * @param pKey .
-     * @param pPool .
+     * @param key Key of scoped binding
+     * @return int
+     */
+    public int cachedInstances(Key<?> key) {
+      FlyweightProvider<?> provider = providers.get(key);
+      return provider == null ? 0 : provider.instances.size();
+    }
+
+    /**
+     * {@inheritDoc}
      */
-    private static void createPool(Key<?> pKey, BlockingQueue<?> pPool) {
-      pools.put(pKey, pPool);
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+      FlyweightProvider<T> provider = new FlyweightProvider<T>(unscoped);
+      providers.put(key, provider);
+      return provider;
     }
   }
 
   /**
-   * Provides common behavior for scoped objects that are scoped by some shared context. Scoped
-   * object retrievals synchronize on the shared context.
+   * Striped scope. Keeps a number of replicas of each binding, handing each thread the replica for
+   * its stripe, so that stateful services that need not have a single global identity, such as
+   * random generators, formatters and metric accumulators, are not contended between threads as
+   * singletons would be. The number of replicas defaults to the number of available processors.
    * 
-   * @param <C> Context type
+   * <p>
+   * Replicas are constructed lazily via the binding's provider. Threads may share a replica, so
+   * replicas must still be thread safe. Where a single view of the replicas is needed, such as the
+   * total of several accumulators, they can be combined via {@link #reduce(Key, Object, Reducer)}.
+   * 
+   * <pre>
+   * bind(Counter.class).in(new StripedScope());
+   * long total = scope.reduce(Key.get(Counter.class), 0L, new Reducer&lt;Counter, Long&gt;() {
+   *   public Long reduce(Long result, Counter counter) {
+   *     return result + counter.count();
+   *   }
+   * });</pre>
    */
-  public abstract static class SharedContextScope<C> implements Scope {
-    protected final Map<C, Map<Key<?>, Object>> scoped = new HashMap<C, Map<Key<?>, Object>>();
+  public static class StripedScope implements Scope {
+    private final Map<Key<?>, StripedProvider<?>> providers = new ConcurrentHashMap<Key<?>, StripedProvider<?>>();
+    private final int replicas;
 
     /**
-     * Gets the current shared context.
+     * Combines replicas into a single result.
      * 
-     * @return shared context
+     * @param <T> Scoped type
+     * @param <R> Result type
      */
-    protected abstract C getContext();
+    public interface Reducer<T, R> {
+      /**
+       * Combines {@code replica} with the result so far.
+       * 
+       * @param result Result so far
+       * @param replica Replica to combine
+       * @return R Combined result
+       */
+      R reduce(R result, T replica);
+    }
 
     /**
-     * {@inheritDoc}
+     * Provides the replica for the current thread's stripe.
+     * 
+     * @param <T> Scoped type
      */
-    @SuppressWarnings("unchecked")
-    public <T> ScopedProvider<T> scope(final Key<T> key) {
-      return new ScopedProvider<T>() {
-        public T get() {
-          C context = getContext();
+    private final class StripedProvider<T> extends ScopedProvider<T> {
+      private final AtomicReferenceArray<T> stripes = new AtomicReferenceArray<T>(replicas);
 
-          synchronized (context) {
-            T object = null;
-            Map<Key<?>, Object> storage = scoped.get(context);
-
-            if (storage == null) {
-              storage = new HashMap<Key<?>, Object>();
-              scoped.put(context, storage);
-            } else
-              object = (T) storage.get(key);
+      /**
+       * Creates a new StripedProvider object.
+       * 
+       * @param unscoped Unscoped provider
+       */
+      StripedProvider(Provider<T> unscoped) {
+        super(unscoped);
+      }
 
-            if (object == null) {
-              object = provider.get();
-              storage.put(key, object);
-            }
+      /**
+       * {@inheritDoc}
+       */
+      public T get() {
+        int stripe = stripeFor(Thread.currentThread());
+        T replica = stripes.get(stripe);
+        return replica == null ? construct(stripe) : replica;
+      }
 
-            return object;
-          }
+      /**
+       * Constructs the replica for {@code stripe}, unless another thread already has.
+       */
+      private synchronized T construct(int stripe) {
+        T replica = stripes.get(stripe);
+        if (replica == null) {
+          replica = provider.get();
+          stripes.set(stripe, replica);
         }
-      };
+
+        return replica;
+      }
+    }
+
+    /**
+     * Creates a new StripedScope object with a replica per available processor.
+     */
+    public StripedScope() {
+      this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new StripedScope object with {@code replicas} replicas per binding.
+     * 
+     * @param replicas Number of replicas per binding
+     * @throws IllegalArgumentException if {@code replicas} is not positive
+     */
+    public StripedScope(int replicas) {
+      if (replicas <= 0)
+        throw new IllegalArgumentException("Replicas must be positive");
+      this.replicas = replicas;
+    }
+
+    /**
+     * Gets the replicas constructed for {@code key}.
+     * 
+     * @param <T> Scoped type
+     * @param key Key of scoped binding
+     * @return List<T>
+     * @throws ConfigurationException if no binding for {@code key} is scoped by this scope
+     */
+    public <T> List<T> replicas(Key<T> key) {
+      @SuppressWarnings("unchecked")
+      StripedProvider<T> provider = (StripedProvider<T>) providers.get(key);
+      if (provider == null)
+        throw new ConfigurationException("No striped binding exists for " + key);
+
+      List<T> result = new ArrayList<T>(replicas);
+      for (int i = 0; i < replicas; i++) {
+        T replica = provider.stripes.get(i);
+        if (replica != null)
+          result.add(replica);
+      }
+
+      return result;
+    }
+
+    /**
+     * Reduces the replicas constructed for {@code key} to a single result.
+     * 
+     * @param <T> Scoped type
+     * @param <R> Result type
+     * @param key Key of scoped binding
+     * @param initial Initial result
+     * @param reducer Reducer to combine replicas with
+     * @return R
+     * @throws ConfigurationException if no binding for {@code key} is scoped by this scope
+     */
+    public <T, R> R reduce(Key<T> key, R initial, Reducer<? super T, R> reducer) {
+      Validate.notNull(reducer, "Reducer cannot be null");
+      R result = initial;
+      for (T replica : replicas(key))
+        result = reducer.reduce(result, replica);
+      return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+      StripedProvider<T> provider = new StripedProvider<T>(unscoped);
+      providers.put(key, provider);
+      return provider;
+    }
+
+    /**
+     * Gets the stripe for {@code thread}.
+     */
+    private int stripeFor(Thread thread) {
+      long id = thread.getId();
+      int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+      return (hash >>> 1) % replicas;
     }
   }
 
@@ -215,8 +1854,8 @@ public final class Scopes {
      * {@inheritDoc}
      */
     @SuppressWarnings("unchecked")
-    public <T> ScopedProvider<T> scope(final Key<T> key) {
-      return new ScopedProvider<T>() {
+    public <T> Provider<T> scope(final Key<T> key, Provider<T> unscoped) {
+      return new ScopedProvider<T>(unscoped) {
         public T get() {
           T instance = (T) scoped.get(key);
 
@@ -232,7 +1871,8 @@ public final class Scopes {
   }
 
   /**
-   * Thread local cache implementation.
+   * Thread local cache implementation. Stores scoped objects by slot, where slots are allocated once
+   * per thread scoped binding and are not reused.
    */
   private static final class ThreadLocalCache {
     private static final ThreadLocal<ThreadLocalCache> THREAD_LOCAL = new ThreadLocal<ThreadLocalCache>() {
@@ -241,23 +1881,118 @@ public final class Scopes {
         return new ThreadLocalCache();
       }
     };
+    /** Binding keys by slot */
+    private static volatile Key<?>[] keys = new Key<?>[16];
+    private static int slots;
+
+    /** Thread local scoped storage, indexed by slot */
+    private Object[] storage = new Object[keys.length];
+    /** Whether any objects are stored */
+    private boolean used;
+
+    /**
+     * Allocates a slot for a thread scoped binding.
+     * 
+     * @param key Key of the binding
+     * @return int
+     */
+    static synchronized int nextSlot(Key<?> key) {
+      int slot = slots++;
+      Key<?>[] current = keys;
+
+      if (slot >= current.length) {
+        Key<?>[] expanded = new Key<?>[current.length * 2];
+        System.arraycopy(current, 0, expanded, 0, current.length);
+        current = expanded;
+      }
+
+      current[slot] = key;
+      keys = current;
+      return slot;
+    }
 
-    /** Thread local scoped storage */
-    private Map<Key<?>, Object> storage = new HashMap<Key<?>, Object>();
+    /**
+     * Detaches the current thread's cache, so that the thread subsequently starts with an empty
+     * cache.
+     * 
+     * @return ThreadLocalCache The detached cache, or null if it holds no objects
+     */
+    static ThreadLocalCache detach() {
+      ThreadLocalCache cache = THREAD_LOCAL.get();
+      THREAD_LOCAL.remove();
+      return cache.used ? cache : null;
+    }
 
     /**
-     * @see Map#put(Object, Object)
+     * Attaches {@code cache} to the current thread in place of its current cache.
+     * 
+     * @param cache Cache to attach, or null for an empty cache
+     * @return ThreadLocalCache The replaced cache, or null if it holds no objects
      */
-    public <T> void add(Key<T> key, T value) {
-      storage.put(key, value);
+    static ThreadLocalCache attach(ThreadLocalCache cache) {
+      ThreadLocalCache replaced = detach();
+      if (cache != null)
+        THREAD_LOCAL.set(cache);
+      return replaced;
     }
 
     /**
-     * @see Map#get(Object)
+     * Disposes of each stored object via {@code disposer}.
+     * 
+     * @param disposer Disposer
+     * @throws ProvisionException if disposal fails for any object
      */
-    @SuppressWarnings("unchecked")
-    public <T> T get(Key<T> key) {
-      return (T) storage.get(key);
+    void dispose(ThreadScope.Disposer disposer) {
+      Key<?>[] slotKeys = keys;
+      ProvisionException failure = null;
+
+      for (int i = 0; i < storage.length; i++) {
+        Object value = storage[i];
+        if (value == null)
+          continue;
+        storage[i] = null;
+
+        try {
+          disposer.dispose(slotKeys[i], value);
+        } catch (Exception e) {
+          if (failure == null)
+            failure = new ProvisionException("Failed to dispose of thread scoped object for "
+                + slotKeys[i], e);
+          else
+            failure.addSuppressed(e);
+        }
+      }
+
+      if (failure != null)
+        throw failure;
+    }
+
+    /**
+     * Stores {@code value} in {@code slot}.
+     * 
+     * @param slot Slot
+     * @param value Value to store
+     */
+    void set(int slot, Object value) {
+      if (slot >= storage.length) {
+        Object[] expanded = new Object[Math.max(slot + 1, storage.length * 2)];
+        System.arraycopy(storage, 0, expanded, 0, storage.length);
+        storage = expanded;
+      }
+
+      storage[slot] = value;
+      used = true;
+    }
+
+    /**
+     * Gets the value stored in {@code slot}.
+     * 
+     * @param slot Slot
+     * @return Object or null if none is stored
+     */
+    Object get(int slot) {
+      Object[] values = storage;
+      return slot < values.length ? values[slot] : null;
     }
 
     /**
@@ -271,26 +2006,137 @@ public final class Scopes {
   }
 
   /**
-   * Singleton scope implementation.
+   * Singleton scope implementation. Each binding is initialized independently, so that singletons
+   * for unrelated bindings can be initialized concurrently. Threads that request a singleton while
+   * another thread initializes it wait for the result, unless waiting would complete a cycle of
+   * threads awaiting each other's singletons, in which case a ProvisionException is thrown.
    */
   private static class SingletonScope implements Scope {
+    /** Initializations that each thread is waiting upon */
+    private static final Map<Thread, Initialization<?>> waiting = new ConcurrentHashMap<Thread, Initialization<?>>();
+
     /**
-     * {@inheritDoc}
+     * An in-progress initialization of a singleton.
+     * 
+     * @param <T> Singleton type
      */
-    public <T> ScopedProvider<T> scope(Key<T> key) {
-      return new ScopedProvider<T>() {
-        private volatile T instance;
+    private static final class Initialization<T> {
+      final Thread owner = Thread.currentThread();
+      final CountDownLatch done = new CountDownLatch(1);
+      volatile T instance;
+      volatile Throwable failure;
+    }
 
-        public T get() {
-          if (instance == null)
-            synchronized (Scopes.class) {
-              if (instance == null)
-                instance = provider.get();
-            }
+    /**
+     * Provides a singleton, initializing it on first use.
+     * 
+     * @param <T> Singleton type
+     */
+    private static final class SingletonProvider<T> extends ScopedProvider<T> {
+      private final Key<T> key;
+      private final AtomicReference<Initialization<T>> initialization = new AtomicReference<Initialization<T>>();
+      private volatile T instance;
 
-          return instance;
+      /**
+       * Creates a new SingletonProvider object.
+       * 
+       * @param key Binding key
+       * @param unscoped Unscoped provider
+       */
+      SingletonProvider(Key<T> key, Provider<T> unscoped) {
+        super(unscoped);
+        this.key = key;
+      }
+
+      /**
+       * {@inheritDoc}
+       */
+      public T get() {
+        T result = instance;
+        return result == null ? initialize() : result;
+      }
+
+      /**
+       * Initializes the singleton, or awaits its initialization by another thread.
+       * 
+       * @return T
+       * @throws ProvisionException if initialization fails or would deadlock
+       */
+      private T initialize() {
+        Initialization<T> init = new Initialization<T>();
+
+        while (!initialization.compareAndSet(null, init)) {
+          Initialization<T> current = initialization.get();
+          if (current != null)
+            return await(current);
         }
-      };
+
+        try {
+          T result = instance;
+          if (result == null)
+            instance = result = provider.get();
+          init.instance = result;
+          return result;
+        } catch (RuntimeException e) {
+          init.failure = e;
+          throw e;
+        } catch (Error e) {
+          init.failure = e;
+          throw e;
+        } finally {
+          initialization.set(null);
+          init.done.countDown();
+        }
+      }
+
+      /**
+       * Awaits the result of {@code current}, failing if the current thread is part of a cycle of
+       * threads awaiting each other's initializations.
+       * 
+       * @param current Initialization to await
+       * @return T
+       * @throws ProvisionException if {@code current} fails or awaiting it would deadlock
+       */
+      private T await(Initialization<T> current) {
+        Thread self = Thread.currentThread();
+        if (current.owner == self)
+          throw new ProvisionException("Circular singleton dependency for " + key);
+
+        boolean interrupted = false;
+        waiting.put(self, current);
+
+        try {
+          for (Initialization<?> next = current; next != null; next = waiting.get(next.owner))
+            if (next.owner == self)
+              throw new ProvisionException("Circular singleton dependency between threads for "
+                  + key);
+
+          while (true) {
+            try {
+              current.done.await();
+              break;
+            } catch (InterruptedException e) {
+              interrupted = true;
+            }
+          }
+        } finally {
+          waiting.remove(self);
+          if (interrupted)
+            self.interrupt();
+        }
+
+        if (current.failure != null)
+          throw new ProvisionException("Failed to initialize singleton for " + key,
+              current.failure);
+        return current.instance;
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> Provider<T> scope(Key<T> key, Provider<T> unscoped) {
+      return new SingletonProvider<T>(key, unscoped);
     }
   }
 }
@@ -48,4 +48,14 @@ public interface TargetBindingBuilder<T> extends ParamsBindingBuilder {
    * @throws ConfigurationException if {@code provider} is invalid
    */
   ParamsBindingBuilder toProvider(Class<? extends Provider<? extends T>> provider);
+
+  /**
+   * Binds a factory interface to a generated implementation. Each method of the interface
+   * constructs an instance of its return type via the type's binding, using the construction method
+   * whose parameters match the method's parameters. See {@link Binder}.
+   * 
+   * @throws ConfigurationException if the bound type is not an interface, or if any of its methods
+   *           are not abstract or return void or a primitive
+   */
+  void toFactory();
 }
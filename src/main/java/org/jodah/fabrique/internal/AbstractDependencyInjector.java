@@ -1,7 +1,6 @@
 package org.jodah.fabrique.internal;
 
 import org.jodah.fabrique.Key;
-import org.jodah.fabrique.ObjectFactory;
 
 /**
  * Handles the injection of dependencies.
@@ -9,6 +8,7 @@ import org.jodah.fabrique.ObjectFactory;
 abstract class AbstractDependencyInjector implements DependencyInjector {
   protected final Key<?>[] dependencies;
   protected final boolean optional;
+  private volatile ProvisionPlan plan;
 
   /**
    * Creates a new DependencyInjector object.
@@ -45,13 +45,20 @@ abstract class AbstractDependencyInjector implements DependencyInjector {
   public Object[] injectDependencies(InjectionContext context) {
     if (dependencies == null)
       return null;
+    return plan().provide(context);
+  }
 
-    Object[] _result = new Object[dependencies.length];
-
-    int i = 0;
-
-    for (Key<?> _dependency : dependencies)
-      _result[i++] = ObjectFactory.getBinding(_dependency).get(context, null);
-    return _result;
+  /**
+   * Gets the provisioning plan for the injector's dependencies, resolving it if it does not yet
+   * exist or was resolved against bindings that have since changed.
+   * 
+   * @return ProvisionPlan
+   * @throws ConfigurationException if a binding cannot be found for any dependency
+   */
+  ProvisionPlan plan() {
+    ProvisionPlan result = plan;
+    if (result == null || !result.isCurrent())
+      plan = result = ProvisionPlan.resolve(dependencies);
+    return result;
   }
 }
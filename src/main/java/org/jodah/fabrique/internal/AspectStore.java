@@ -1,14 +1,14 @@
 package org.jodah.fabrique.internal;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Maintains aspects.
  */
 public final class AspectStore {
-  /** Stores all method aspects */
-  private static final List<MethodAspect> methodAspects = new ArrayList<MethodAspect>();
+  /** Stores all method aspects. Copied on write so that aspects can be read while modules load. */
+  private static final List<MethodAspect> methodAspects = new CopyOnWriteArrayList<MethodAspect>();
 
   private AspectStore() {
   }
@@ -0,0 +1,249 @@
+package org.jodah.fabrique.internal;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.CallbackFilter;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+import net.sf.cglib.proxy.NoOp;
+
+import org.jodah.fabrique.ConfigurationException;
+import org.jodah.fabrique.Key;
+import org.jodah.fabrique.Provider;
+import org.jodah.fabrique.Providers;
+import org.jodah.fabrique.ProvisionHandle;
+
+/**
+ * Produces a generated implementation of a factory interface. Each factory method is backed by a
+ * {@link ProvisionHandle} for its return type and parameter types, so that calls construct
+ * instances directly without matching arguments.
+ * 
+ * @param <T> Factory interface type
+ */
+public class AssistedFactory<T> extends InternalFactory<T> {
+  private final Class<T> factoryInterface;
+  private final Method[] methods;
+  private volatile Provider<T> provider;
+
+  /**
+   * Maps factory methods to the index of their callback, offset by one, and all other methods to
+   * the no-op callback at index zero. Equality is defined by factory type for CGLIB caching.
+   */
+  private static class FactoryCallbackFilter implements CallbackFilter {
+    final Class<?> factoryType;
+    final Method[] methods;
+
+    /**
+     * Creates a new FactoryCallbackFilter object.
+     * 
+     * @param factoryType Factory interface type
+     * @param methods Factory methods
+     */
+    FactoryCallbackFilter(Class<?> factoryType, Method[] methods) {
+      this.factoryType = factoryType;
+      this.methods = methods;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int accept(Method method) {
+      for (int i = 0; i < methods.length; i++)
+        if (methods[i].getName().equals(method.getName())
+            && methods[i].getReturnType() == method.getReturnType()
+            && Arrays.equals(methods[i].getParameterTypes(), method.getParameterTypes()))
+          return i + 1;
+      return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Necessary for CGLIB caching.
+     */
+    @Override
+    public boolean equals(Object object) {
+      return object instanceof FactoryCallbackFilter
+          && ((FactoryCallbackFilter) object).factoryType == factoryType;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * Necessary for CGLIB caching.
+     */
+    @Override
+    public int hashCode() {
+      return factoryType.hashCode();
+    }
+  }
+
+  /**
+   * Implements a factory method by providing instances through a pre-resolved handle.
+   */
+  private static class FactoryMethod implements MethodInterceptor {
+    final ProvisionHandle<?> handle;
+
+    /**
+     * Creates a new FactoryMethod object.
+     * 
+     * @param handle Handle to provide instances with
+     */
+    FactoryMethod(ProvisionHandle<?> handle) {
+      this.handle = handle;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object intercept(Object object, Method method, Object[] args, MethodProxy proxy) {
+      return args.length == 0 ? handle.get() : handle.get(args);
+    }
+  }
+
+  /**
+   * Creates a new AssistedFactory object.
+   * 
+   * @param factoryType Factory interface type
+   * @throws ConfigurationException if {@code factoryType} is not an interface, or if any of its
+   *           methods are not abstract or return void or a primitive
+   */
+  AssistedFactory(Class<T> factoryType) {
+    super(factoryType, FactoryType.Target);
+    factoryInterface = factoryType;
+    methods = factoryMethodsFor(factoryType);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  T get(InjectionContext context, ConstructionInjector<T> constructionInjector, Object[] args) {
+    throw new IllegalStateException("Unreachable");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  T get(InjectionContext context, Object[] args) {
+    return provider().get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  Provider<T> getProvider(Object[] args) {
+    return provider();
+  }
+
+  /**
+   * Does nothing since generated factories have no injectable members.
+   */
+  @Override
+  void initialize() {
+  }
+
+  /**
+   * Generates the factory implementation, resolving the construction method for each factory
+   * method.
+   * 
+   * @throws ConfigurationException if a factory method's return type is not bound or has no
+   *           construction method matching the factory method's parameters
+   */
+  @Override
+  void preInject() {
+    provider();
+  }
+
+  /**
+   * Gets the provider of the factory implementation, generating the implementation on first use.
+   * 
+   * @return Provider<T>
+   */
+  private Provider<T> provider() {
+    Provider<T> result = provider;
+    if (result == null) {
+      synchronized (this) {
+        result = provider;
+        if (result == null)
+          provider = result = Providers.of(generate());
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Generates an instance of the factory implementation.
+   * 
+   * @return T
+   * @throws ConfigurationException if any factory method cannot be resolved
+   */
+  private T generate() {
+    Callback[] callbacks = new Callback[methods.length + 1];
+    Class<?>[] callbackTypes = new Class<?>[methods.length + 1];
+    callbacks[0] = NoOp.INSTANCE;
+    callbackTypes[0] = NoOp.class;
+
+    for (int i = 0; i < methods.length; i++) {
+      Method method = methods[i];
+      try {
+        callbacks[i + 1] = new FactoryMethod(handleFor(Injectors.returnKeyFor(method),
+            method.getParameterTypes()));
+      } catch (ConfigurationException e) {
+        throw new ConfigurationException("Cannot resolve factory method " + method, e);
+      }
+      callbackTypes[i + 1] = MethodInterceptor.class;
+    }
+
+    Enhancer enhancer = new Enhancer();
+    enhancer.setInterfaces(new Class<?>[] { factoryInterface });
+    enhancer.setUseFactory(false);
+    enhancer.setNamingPolicy(ConstructorProxies.NAMING_POLICY);
+    enhancer.setCallbackFilter(new FactoryCallbackFilter(factoryInterface, methods));
+    enhancer.setCallbackTypes(callbackTypes);
+    enhancer.setCallbacks(callbacks);
+    return factoryInterface.cast(enhancer.create());
+  }
+
+  /**
+   * Creates a handle for {@code key} and {@code argTypes}.
+   */
+  private static <P> ProvisionHandle<P> handleFor(Key<P> key, Class<?>[] argTypes) {
+    return new ProvisionHandleImpl<P>(key, argTypes);
+  }
+
+  /**
+   * Gets the factory methods of {@code factoryType}.
+   * 
+   * @param factoryType Factory interface type
+   * @return Method[]
+   * @throws ConfigurationException if {@code factoryType} is not an interface, or if any of its
+   *           methods are not abstract or return void or a primitive
+   */
+  private static Method[] factoryMethodsFor(Class<?> factoryType) {
+    if (!factoryType.isInterface())
+      throw new ConfigurationException("Factory type must be an interface for " + factoryType);
+
+    List<Method> methods = new ArrayList<Method>();
+    for (Method method : factoryType.getMethods()) {
+      if (Modifier.isStatic(method.getModifiers()))
+        continue;
+      if (!Modifier.isAbstract(method.getModifiers()))
+        throw new ConfigurationException("Factory method must be abstract for " + method);
+      if (method.getReturnType() == void.class || method.getReturnType().isPrimitive())
+        throw new ConfigurationException("Factory method must return an object for " + method);
+      methods.add(method);
+    }
+
+    return methods.toArray(new Method[methods.size()]);
+  }
+}
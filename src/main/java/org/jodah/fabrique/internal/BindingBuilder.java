@@ -136,6 +136,14 @@ class BindingBuilder<T> implements NamedBindingBuilder<T> {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  public void toFactory() {
+    internalFactory = new AssistedFactory<T>(binding.getKey().getType());
+    binding.setInternalFactory(internalFactory);
+  }
+
   /**
    * {@inheritDoc}
    */
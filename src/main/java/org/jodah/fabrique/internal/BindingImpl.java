@@ -4,7 +4,6 @@ import org.jodah.fabrique.Binding;
 import org.jodah.fabrique.Key;
 import org.jodah.fabrique.Provider;
 import org.jodah.fabrique.Scope;
-import org.jodah.fabrique.ScopedProvider;
 
 /**
  * Binding implementation.
@@ -15,7 +14,38 @@ public class BindingImpl<T> implements Binding<T> {
   private Scope scope;
   private InternalFactory<T> internalFactory;
   private Key<T> key;
-  private ScopedProvider<T> scopedProvider;
+  private Provider<T> scopedProvider;
+
+  /**
+   * Unscoped provider wrapped by the binding's scope. Created once per binding and safe to share,
+   * it provides with the explicit arguments handed over through the current injection context.
+   */
+  private final class UnscopedProvider implements Provider<T> {
+    /**
+     * {@inheritDoc}
+     */
+    public T get() {
+      InjectionContext context = InjectionContext.current();
+      Object[] args = context.takeScopeArguments();
+      if (args == null)
+        return internalFactory.getProvider(null).get();
+
+      int frame = context.enter();
+      try {
+        return internalFactory.get(context, args);
+      } finally {
+        context.exit(frame);
+      }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return "Unscoped provider for " + key;
+    }
+  }
 
   /**
    * Creates a new BindingImpl object.
@@ -30,12 +60,21 @@ public class BindingImpl<T> implements Binding<T> {
 
   /**
    * {@inheritDoc}
+   * 
+   * <p>
+   * For scoped bindings, {@code args} are handed to the scope in place of any arguments of an
+   * enclosing provision, including when there are none.
    */
   public T get(InjectionContext context, Object[] args) {
     if (scopedProvider == null)
       return internalFactory.get(context, args);
-    scopedProvider.setProvider(internalFactory.getProvider(args));
-    return scopedProvider.get();
+
+    Object[] previous = context.scopeArguments(args);
+    try {
+      return scopedProvider.get();
+    } finally {
+      context.scopeArguments(previous);
+    }
   }
 
   /**
@@ -64,11 +103,17 @@ public class BindingImpl<T> implements Binding<T> {
   /**
    * {@inheritDoc}
    */
-  public Provider<T> getProvider(Object[] args) {
+  public Provider<T> getProvider(final Object[] args) {
     if (scopedProvider == null)
       return internalFactory.getProvider(args);
-    scopedProvider.setProvider(internalFactory.getProvider(args));
-    return scopedProvider;
+    if (args == null)
+      return scopedProvider;
+
+    return new Provider<T>() {
+      public T get() {
+        return BindingImpl.this.get(InjectionContext.current(), args);
+      }
+    };
   }
 
   /**
@@ -111,6 +156,6 @@ public class BindingImpl<T> implements Binding<T> {
    */
   void setScope(Scope scope) {
     this.scope = scope;
-    scopedProvider = scope.scope(key);
+    scopedProvider = scope.scope(key, new UnscopedProvider());
   }
 }
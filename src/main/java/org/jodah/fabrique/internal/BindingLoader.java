@@ -1,5 +1,7 @@
 package org.jodah.fabrique.internal;
 
+import java.util.Collection;
+
 import org.jodah.fabrique.Binding;
 import org.jodah.fabrique.ConfigurationException;
 
@@ -15,6 +17,14 @@ public interface BindingLoader {
    */
   void loadBinding(Binding<?> binding) throws ConfigurationException;
 
+  /**
+   * Loads bindings atomically. Either all or none of {@code bindings} are loaded.
+   * 
+   * @param bindings Bindings to load
+   * @throws ConfigurationException if a binding for any key already exists
+   */
+  void loadBindings(Collection<? extends Binding<?>> bindings) throws ConfigurationException;
+
   /**
    * Removes a binding. Used for late binding construction when an exception occurs.
    * 
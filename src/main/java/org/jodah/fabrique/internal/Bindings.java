@@ -125,10 +125,12 @@ public final class Bindings {
       AspectStore.addMethodAspect(methodAspect);
 
     // Initialize and load bindings
-    for (BindingImpl<?> binding : binder.getBindings()) {
+    for (BindingImpl<?> binding : binder.getBindings())
       initialize(binding);
-      bindingLoader.loadBinding(binding);
-    }
+    bindingLoader.loadBindings(binder.getBindings());
+
+    // Resolve provisioning plans against the new bindings
+    ProvisionPlan.invalidateAll();
 
     Iterator<BindingImpl<?>> iterator = binder.getBindings().listIterator();
 
@@ -156,7 +158,8 @@ public final class Bindings {
     InternalFactory<T> internalFactory = ((BindingImpl) binding).getInternalFactory();
     Key<?> key = binding.getKey();
 
-    if (internalFactory.getSubject().equals(key.getType()))
+    if (internalFactory.getSubject().equals(key.getType())
+        && !(internalFactory instanceof AssistedFactory))
       Validate.validateType(key.getType(), "Untargetted bound type");
 
     internalFactory.initialize();
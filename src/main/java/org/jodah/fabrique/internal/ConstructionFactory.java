@@ -11,6 +11,13 @@ import org.jodah.fabrique.Provider;
  * @param <T> Constructed type
  */
 abstract class ConstructionFactory<T> extends InternalFactory<T> {
+  private volatile DispatchCache<T> dispatchCache = new DispatchCache<T>();
+  private final Generational<Provider<T>> defaultProvider = new Generational<Provider<T>>() {
+    protected Provider<T> compute() {
+      return createDefaultProvider();
+    }
+  };
+
   /**
    * Creates a new ConstructionFactory object.
    * 
@@ -29,11 +36,34 @@ abstract class ConstructionFactory<T> extends InternalFactory<T> {
    * @throws ConfigurationException If no construction method matches {@code args}
    */
   protected ConstructionInjector<T> constructionInjectorFor(Object[] args) {
-    ConstructionInjector<T> injector = Injectors.injectorFor(subject, constructionInjectors, args);
+    DispatchCache<T> cache = dispatchCache;
+    ConstructionInjector<T> injector = args == null ? null : cache.get(args);
+    if (injector != null)
+      return injector;
+
+    injector = Injectors.injectorFor(subject, constructionInjectors, args);
     if (injector == null)
       throw new ConfigurationException(
           factoryType.equals(FactoryType.Target) ? Errors.noConstructor(subject, args)
               : Errors.noProviderMethod(subject, args));
+    if (args != null)
+      cache.put(args, injector);
+    return injector;
+  }
+
+  /**
+   * Gets the construction injector whose parameters accept arguments of types {@code params}.
+   * 
+   * @param params Argument types
+   * @throws ConfigurationException If no construction method matches {@code params}
+   */
+  ConstructionInjector<T> constructionInjectorForParams(Class<?>[] params) {
+    ConstructionInjector<T> injector = Injectors.injectorForParams(subject, constructionInjectors,
+        params);
+    if (injector == null)
+      throw new ConfigurationException(
+          factoryType.equals(FactoryType.Target) ? Errors.noConstructor(subject, params)
+              : Errors.noProviderMethod(subject, params));
     return injector;
   }
 
@@ -46,24 +76,38 @@ abstract class ConstructionFactory<T> extends InternalFactory<T> {
 
   /**
    * {@inheritDoc}
+   * 
+   * <p>
+   * The provider for the default construction method is created and validated once per binding
+   * generation and shared by subsequent calls.
    */
   Provider<T> getProvider(Object[] args) {
-    ConstructionInjector<T> injector = constructionInjectorFor(args);
+    if (args == null)
+      return defaultProvider.get();
+    return new ProviderFactoryAdapter<T>(this, constructionInjectorFor(args), args);
+  }
+
+  /**
+   * Creates a provider for the default construction method, verifying that its dependencies can be
+   * fulfilled by the factory.
+   * 
+   * @return Provider<T>
+   * @throws ConfigurationException if a dependency of the default construction method is not bound
+   */
+  private Provider<T> createDefaultProvider() {
+    ConstructionInjector<T> injector = constructionInjectorFor(null);
 
-    /** If no args, verify that default injector can be fulfilled by the factory */
-    if (args == null) {
-      for (Key<?> dependency : injector.getDependencies()) {
-        try {
-          ObjectFactory.getBinding(dependency);
-        } catch (ConfigurationException e) {
-          throw new ConfigurationException(
-              factoryType.equals(FactoryType.Target) ? Errors.noConstructor(subject, args)
-                  : Errors.noProviderMethod(subject, args));
-        }
+    for (Key<?> dependency : injector.getDependencies()) {
+      try {
+        ObjectFactory.getBinding(dependency);
+      } catch (ConfigurationException e) {
+        throw new ConfigurationException(
+            factoryType.equals(FactoryType.Target) ? Errors.noConstructor(subject, null)
+                : Errors.noProviderMethod(subject, null));
       }
     }
 
-    return new ProviderFactoryAdapter<T>(this, injector, args);
+    return new ProviderFactoryAdapter<T>(this, injector, null);
   }
 
   /**
@@ -80,5 +124,6 @@ abstract class ConstructionFactory<T> extends InternalFactory<T> {
             : optionalParams.toArray(new Class<?>[optionalParams.size()][]));
     defaultParams = null;
     optionalParams = null;
+    dispatchCache = new DispatchCache<T>();
   }
 }
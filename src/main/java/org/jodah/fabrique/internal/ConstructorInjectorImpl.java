@@ -4,7 +4,6 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 
 import org.jodah.fabrique.Key;
-import org.jodah.fabrique.Primitives;
 import org.jodah.fabrique.Provider;
 import org.jodah.fabrique.ProvisionException;
 
@@ -16,7 +15,12 @@ import org.jodah.fabrique.ProvisionException;
 public class ConstructorInjectorImpl<T> extends AbstractDependencyInjector implements
     ConstructionInjector<T> {
   private final Constructor<T> constructor;
-  private ConstructorProxy<T> constructorProxy;
+  private final Generational<ConstructorProxy<T>> constructorProxy = new Generational<ConstructorProxy<T>>() {
+    /** Method aspects and the provision engine can change when modules are loaded */
+    protected ConstructorProxy<T> compute() {
+      return ConstructorProxies.proxyFor(constructor);
+    }
+  };
 
   /**
    * Creates a new ConstructorInjector object.
@@ -40,20 +44,13 @@ public class ConstructorInjectorImpl<T> extends AbstractDependencyInjector imple
       throw new ProvisionException("Circular dependency detected while constructing "
           + constructor.getDeclaringClass());
 
-    Object[] constructionArgs = args;
-
     try {
-      constructionArgs = constructionArgs == null ? injectDependencies(context) : Primitives
-          .convertPrimitives(args);
-      if (constructorProxy == null)
-        constructorProxy = ConstructorProxies.proxyFor(constructor);
-
-      T object = constructorProxy.newInstance(constructionArgs);
-      context.finished(constructor.getDeclaringClass());
-
-      return object;
+      Object[] constructionArgs = args == null ? injectDependencies(context) : args;
+      return constructorProxy.get().newInstance(constructionArgs);
     } catch (Exception e) {
       throw new ProvisionException("Construction failed for " + constructor, e);
+    } finally {
+      context.finished(constructor.getDeclaringClass());
     }
   }
 }
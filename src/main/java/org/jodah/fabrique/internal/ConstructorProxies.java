@@ -1,8 +1,12 @@
 package org.jodah.fabrique.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -21,6 +25,9 @@ import net.sf.cglib.reflect.FastClass;
 import net.sf.cglib.reflect.FastClass.Generator;
 import net.sf.cglib.reflect.FastConstructor;
 
+import org.jodah.fabrique.ObjectFactory;
+import org.jodah.fabrique.Primitives;
+import org.jodah.fabrique.ProvisionEngine;
 import org.jodah.fabrique.intercept.IMethodInterceptor;
 
 /**
@@ -45,7 +52,7 @@ public class ConstructorProxies {
   /**
    * Default constructor implementation. Uses reflection to instantiate objects.
    */
-  private static class DefaultConstructor<T> implements ConstructorProxy<T> {
+  static class DefaultConstructor<T> implements ConstructorProxy<T> {
     private Constructor<T> constructor;
 
     /**
@@ -62,7 +69,7 @@ public class ConstructorProxies {
      */
     public T newInstance(Object... args) throws InvocationTargetException {
       try {
-        return constructor.newInstance(args);
+        return constructor.newInstance(Primitives.convertPrimitives(args));
       } catch (InstantiationException e) {
         throw new AssertionError(e);
       } catch (IllegalAccessException e) {
@@ -71,6 +78,131 @@ public class ConstructorProxies {
     }
   }
 
+  /**
+   * Fast constructor implementation. Instantiates objects through a generated FastClass, avoiding
+   * reflective access checks on each invocation.
+   */
+  static class FastConstructorProxy<T> implements ConstructorProxy<T> {
+    private final FastClass fastClass;
+    private final int index;
+
+    /**
+     * Creates a new FastConstructorProxy object.
+     * 
+     * @param fastClass FastClass for the constructed type
+     * @param index Constructor index within {@code fastClass}
+     */
+    FastConstructorProxy(FastClass fastClass, int index) {
+      this.fastClass = fastClass;
+      this.index = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object... args) throws InvocationTargetException {
+      return (T) fastClass.newInstance(index, Invokers.generatedArgs(args));
+    }
+  }
+
+  /**
+   * Invokes a constructor after checking its arguments, passing invocations whose arguments do not
+   * match exactly on to reflection.
+   */
+  abstract static class CheckedConstructor<T> implements ConstructorProxy<T> {
+    final Constructor<T> constructor;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] boxedTypes;
+    /** Whether any parameter is primitive, and so may be passed a primitive argument */
+    private final boolean hasPrimitives;
+
+    /**
+     * Creates a new CheckedConstructor object.
+     * 
+     * @param constructor Constructor to invoke
+     */
+    CheckedConstructor(Constructor<T> constructor) {
+      this.constructor = constructor;
+      parameterTypes = constructor.getParameterTypes();
+      boxedTypes = Invokers.boxed(parameterTypes);
+      boolean primitive = false;
+      for (Class<?> type : parameterTypes)
+        primitive |= type.isPrimitive();
+      hasPrimitives = primitive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public T newInstance(Object... args) throws InvocationTargetException {
+      Object[] converted = args == null ? ObjectFactory.NO_ARGS : args;
+      if (hasPrimitives)
+        converted = Primitives.convertPrimitives(converted);
+      if (!Invokers.accepts(parameterTypes, boxedTypes, converted))
+        return new DefaultConstructor<T>(constructor).newInstance(converted);
+
+      try {
+        return construct(converted);
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    }
+
+    /**
+     * Calls the constructor with checked {@code args}.
+     * 
+     * @param args Constructor arguments
+     * @return T
+     * @throws Throwable Thrown by the constructor
+     */
+    abstract T construct(Object[] args) throws Throwable;
+  }
+
+  /**
+   * Lambda constructor implementation. Instantiates objects through a class spun by
+   * {@link java.lang.invoke.LambdaMetafactory} that invokes the constructor directly.
+   */
+  abstract static class LambdaConstructor<T> extends CheckedConstructor<T> {
+    /**
+     * Creates a new LambdaConstructor object.
+     * 
+     * @param constructor Constructor to invoke
+     */
+    LambdaConstructor(Constructor<T> constructor) {
+      super(constructor);
+    }
+  }
+
+  /**
+   * Method handle constructor implementation. Instantiates objects through a method handle that
+   * spreads its argument array.
+   */
+  static class MethodHandleConstructor<T> extends CheckedConstructor<T> {
+    private static final MethodType TYPE = MethodType.methodType(Object.class, Object[].class);
+    private final MethodHandle handle;
+
+    /**
+     * Creates a new MethodHandleConstructor object.
+     * 
+     * @param constructor Constructor to invoke
+     * @throws IllegalAccessException if {@code constructor} is not accessible
+     */
+    MethodHandleConstructor(Constructor<T> constructor) throws IllegalAccessException {
+      super(constructor);
+      handle = MethodHandles.lookup().unreflectConstructor(constructor)
+          .asSpreader(Object[].class, constructor.getParameterTypes().length).asType(TYPE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    T construct(Object[] args) throws Throwable {
+      return (T) (Object) handle.invokeExact(args);
+    }
+  }
+
   /**
    * A callback filter that maps methods to unique IDs. We define equals and hashCode using the
    * declaring class so that enhanced classes can be shared between injectors.
@@ -186,13 +318,37 @@ public class ConstructorProxies {
       Enhancer.registerCallbacks(enhanced, callbacks);
 
       try {
-        return (T) fastConstructor.newInstance(arguments);
+        return (T) fastConstructor.newInstance(Invokers.generatedArgs(arguments));
       } finally {
         Enhancer.registerCallbacks(enhanced, null);
       }
     }
   }
 
+  /**
+   * Generates a FastClass for {@code type}, capable of invoking the type's non-private members
+   * without reflection. Types that cannot be generated for, such as bootstrap or {@code java.*}
+   * types whose FastClass would be defined outside of the type's package, yield null.
+   * 
+   * @param type Type to generate FastClass for
+   * @return FastClass or null
+   */
+  static FastClass fastClassFor(Class<?> type) {
+    if (type.getClassLoader() == null || type.getName().startsWith("java"))
+      return null;
+
+    try {
+      Generator generator = new Generator();
+      generator.setType(type);
+      generator.setNamingPolicy(NAMING_POLICY);
+      return generator.create();
+    } catch (RuntimeException e) {
+      return null;
+    } catch (LinkageError e) {
+      return null;
+    }
+  }
+
   /**
    * Produces a constructor proxy for {@code constructor}.
    * 
@@ -227,7 +383,7 @@ public class ConstructorProxies {
     List<MethodAspect> applicableAspects = Aspects.matchesFor(type);
 
     if (applicableAspects.isEmpty())
-      return new DefaultConstructor<T>(pConstructor);
+      return unproxiedConstructorFor(pConstructor);
 
     List<Method> methods = new ArrayList<Method>();
     Enhancer.getMethods(type, null, methods);
@@ -251,7 +407,7 @@ public class ConstructorProxies {
     }
 
     if (!methodMatched)
-      return new DefaultConstructor<T>(pConstructor);
+      return unproxiedConstructorFor(pConstructor);
 
     Callback[] callbacks = new Callback[methods.size()];
     int i = -1;
@@ -282,4 +438,91 @@ public class ConstructorProxies {
     enhancer.setCallbackTypes(callbackTypes);
     return new ProxyConstructor<T>(enhancer, pConstructor, callbacks);
   }
+
+  /**
+   * Creates a constructor proxy for the non-intercepted {@code constructor} according to the
+   * selected {@link ProvisionEngine}, falling back to reflection where the engine cannot be used.
+   * 
+   * @param <T> Type to construct
+   * @param constructor Constructor
+   * @return IConstructionProxy for T
+   */
+  private static <T> ConstructorProxy<T> unproxiedConstructorFor(Constructor<T> constructor) {
+    ProvisionEngine engine = Invokers.getEngine();
+
+    if (engine == ProvisionEngine.METHOD_HANDLE) {
+      ConstructorProxy<T> proxy = lambdaConstructorFor(constructor);
+      if (proxy != null)
+        return proxy;
+
+      try {
+        return new MethodHandleConstructor<T>(constructor);
+      } catch (IllegalAccessException ignore) {
+      }
+    } else if (engine == ProvisionEngine.GENERATED
+        && !Modifier.isPrivate(constructor.getModifiers())) {
+      FastClass fastClass = fastClassFor(constructor.getDeclaringClass());
+
+      if (fastClass != null) {
+        int index = fastClass.getIndex(constructor.getParameterTypes());
+        if (index >= 0)
+          return new FastConstructorProxy<T>(fastClass, index);
+      }
+    }
+
+    return new DefaultConstructor<T>(constructor);
+  }
+
+  /**
+   * Creates a lambda constructor for {@code constructor}.
+   * 
+   * @param <T> Type to construct
+   * @param constructor Constructor
+   * @return ConstructorProxy or null if {@code constructor} cannot be linked
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> ConstructorProxy<T> lambdaConstructorFor(Constructor<T> constructor) {
+    if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())
+        || !Invokers.isLinkable(constructor, constructor.getParameterTypes()))
+      return null;
+
+    Object function;
+    try {
+      function = Invokers.spin(MethodHandles.lookup().unreflectConstructor(constructor));
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+
+    if (function instanceof Invokers.Call0) {
+      final Invokers.Call0 call = (Invokers.Call0) function;
+      return new LambdaConstructor<T>(constructor) {
+        T construct(Object[] args) {
+          return (T) call.call();
+        }
+      };
+    } else if (function instanceof Invokers.Call1) {
+      final Invokers.Call1 call = (Invokers.Call1) function;
+      return new LambdaConstructor<T>(constructor) {
+        T construct(Object[] args) {
+          return (T) call.call(args[0]);
+        }
+      };
+    } else if (function instanceof Invokers.Call2) {
+      final Invokers.Call2 call = (Invokers.Call2) function;
+      return new LambdaConstructor<T>(constructor) {
+        T construct(Object[] args) {
+          return (T) call.call(args[0], args[1]);
+        }
+      };
+    } else if (function instanceof Invokers.Call3) {
+      final Invokers.Call3 call = (Invokers.Call3) function;
+      return new LambdaConstructor<T>(constructor) {
+        T construct(Object[] args) {
+          return (T) call.call(args[0], args[1], args[2]);
+        }
+      };
+    }
+
+    return null;
+  }
 }
@@ -0,0 +1,97 @@
+package org.jodah.fabrique.internal;
+
+import java.util.Arrays;
+
+import org.jodah.fabrique.Primitives.Primitive;
+
+/**
+ * Caches the construction injector resolved for each argument signature, where a signature is the
+ * runtime class of each argument, or the primitive type of each {@link Primitive} argument.
+ * Lookups compare signatures by identity and do not allocate.
+ * 
+ * <p>
+ * Arguments containing null are not cached since they are matched ambiguously. The cache is bounded
+ * by {@link #MAX_ENTRIES}, beyond which further signatures are resolved on each call.
+ * 
+ * @param <T> Constructed type
+ */
+final class DispatchCache<T> {
+  static final int MAX_ENTRIES = 32;
+  private static final Entry<?>[] NO_ENTRIES = new Entry<?>[0];
+  @SuppressWarnings("unchecked")
+  private volatile Entry<T>[] entries = (Entry<T>[]) NO_ENTRIES;
+
+  /**
+   * An argument signature along with its resolved injector.
+   */
+  private static final class Entry<T> {
+    final Class<?>[] signature;
+    final ConstructionInjector<T> injector;
+
+    Entry(Class<?>[] signature, ConstructionInjector<T> injector) {
+      this.signature = signature;
+      this.injector = injector;
+    }
+
+    /**
+     * Whether {@code args} have the entry's signature.
+     */
+    boolean matches(Object[] args) {
+      if (signature.length != args.length)
+        return false;
+      for (int i = 0; i < args.length; i++)
+        if (signature[i] != classFor(args[i]))
+          return false;
+      return true;
+    }
+  }
+
+  /**
+   * Gets the cached injector for the signature of {@code args}.
+   * 
+   * @param args Construction args
+   * @return ConstructionInjector<T> or null if none is cached
+   */
+  ConstructionInjector<T> get(Object[] args) {
+    for (Entry<T> entry : entries)
+      if (entry.matches(args))
+        return entry.injector;
+    return null;
+  }
+
+  /**
+   * Caches {@code injector} for the signature of {@code args}, unless {@code args} contains null or
+   * the cache is full.
+   * 
+   * @param args Construction args
+   * @param injector Injector resolved for {@code args}
+   */
+  synchronized void put(Object[] args, ConstructionInjector<T> injector) {
+    Entry<T>[] current = entries;
+    if (current.length >= MAX_ENTRIES)
+      return;
+
+    Class<?>[] signature = new Class<?>[args.length];
+    for (int i = 0; i < args.length; i++)
+      if (args[i] == null)
+        return;
+      else
+        signature[i] = classFor(args[i]);
+
+    for (Entry<T> entry : current)
+      if (entry.matches(args))
+        return;
+
+    Entry<T>[] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = new Entry<T>(signature, injector);
+    entries = updated;
+  }
+
+  /**
+   * Gets the signature class for {@code arg}, or null if {@code arg} is null.
+   */
+  private static Class<?> classFor(Object arg) {
+    return arg instanceof Primitive ? ((Primitive) arg).getType() : arg == null ? null : arg
+        .getClass();
+  }
+}
@@ -6,10 +6,18 @@ import org.jodah.fabrique.InjectionException;
 import org.jodah.fabrique.Key;
 
 /**
- * Performs dependency injection for a single field.
+ * Performs dependency injection for a single field. The field is written through a setter for the
+ * selected {@link org.jodah.fabrique.ProvisionEngine}, which is a generated {@link FieldWriter} for
+ * the default engine, with the value taken directly from the injector's provisioning plan. Both the
+ * setter and the plan are resolved once per binding generation.
  */
 public class FieldInjector extends AbstractDependencyInjector implements MemberInjector {
   private final Field field;
+  private final Generational<Invokers.FieldSetter> setter = new Generational<Invokers.FieldSetter>() {
+    protected Invokers.FieldSetter compute() {
+      return Invokers.setterFor(field);
+    }
+  };
 
   /**
    * Creates a new FieldInjector object.
@@ -29,7 +37,7 @@ public class FieldInjector extends AbstractDependencyInjector implements MemberI
    */
   public void inject(InjectionContext context, Object object) {
     try {
-      field.set(object, injectDependencies(context)[0]);
+      setter.get().set(object, plan().provide(context, 0));
     } catch (Exception e) {
       if (!optional)
         throw new InjectionException("Field injection failed for " + field, e);
@@ -0,0 +1,20 @@
+package org.jodah.fabrique.internal;
+
+/**
+ * Writes the injectable fields of a type. Implementations are generated per type by
+ * {@link FieldWriters} and write fields directly, without reflection.
+ * 
+ * <p>
+ * Note: Public only so that generated implementations, which reside in the package of the type
+ * being written, can implement it.
+ */
+public interface FieldWriter {
+  /**
+   * Sets the field at {@code index} for {@code target} to {@code value}.
+   * 
+   * @param index Index of the field to set
+   * @param target Object to set field for
+   * @param value Value to set
+   */
+  void set(int index, Object target, Object value);
+}
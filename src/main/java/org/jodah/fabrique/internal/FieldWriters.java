@@ -0,0 +1,219 @@
+package org.jodah.fabrique.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.sf.cglib.asm.ClassVisitor;
+import net.sf.cglib.asm.Label;
+import net.sf.cglib.asm.Type;
+import net.sf.cglib.core.AbstractClassGenerator;
+import net.sf.cglib.core.ClassEmitter;
+import net.sf.cglib.core.CodeEmitter;
+import net.sf.cglib.core.Constants;
+import net.sf.cglib.core.EmitUtils;
+import net.sf.cglib.core.ProcessSwitchCallback;
+import net.sf.cglib.core.ReflectUtils;
+import net.sf.cglib.core.Signature;
+import net.sf.cglib.core.TypeUtils;
+
+import org.jodah.fabrique.Inject;
+
+/**
+ * Produces generated {@link FieldWriter} instances. A single writer is generated for each declaring
+ * type, covering all of the type's injectable fields that can be written from within the type's
+ * package, and selects the field to write through a switch on its index.
+ * 
+ * <p>
+ * Writers only cover fields. Each field is still injected by its own {@link FieldInjector}, and
+ * fields declared by super types are written through their declaring type's writer. Injected
+ * methods are invoked separately, see {@link Invokers}.
+ */
+final class FieldWriters {
+  private static final Signature SET = TypeUtils
+      .parseSignature("void set(int, Object, Object)");
+  private static final Type FIELD_WRITER = Type.getType(FieldWriter.class);
+  private static final Type ILLEGAL_ARGUMENT_EXCEPTION = Type
+      .getType(IllegalArgumentException.class);
+  private static final Entry NO_WRITER = new Entry(null, new ArrayList<Field>(0));
+  private static final ConcurrentMap<Class<?>, Entry> entries = new ConcurrentHashMap<Class<?>, Entry>();
+
+  private FieldWriters() {
+  }
+
+  /**
+   * A generated writer for a type along with the fields that it writes.
+   */
+  static final class Entry {
+    final FieldWriter writer;
+    final List<Field> fields;
+
+    /**
+     * Creates a new Entry object.
+     * 
+     * @param writer Generated writer
+     * @param fields Fields written by {@code writer}, by index
+     */
+    Entry(FieldWriter writer, List<Field> fields) {
+      this.writer = writer;
+      this.fields = fields;
+    }
+  }
+
+  /**
+   * Generates a writer class for a type's fields.
+   */
+  private static class Generator extends AbstractClassGenerator {
+    private static final Source SOURCE = new Source(FieldWriter.class.getName());
+    private final Class<?> type;
+    private final List<Field> fields;
+
+    /**
+     * Creates a new Generator object.
+     * 
+     * @param type Type to write fields for
+     * @param fields Fields to write
+     */
+    Generator(Class<?> type, List<Field> fields) {
+      super(SOURCE);
+      this.type = type;
+      this.fields = fields;
+      setNamingPolicy(ConstructorProxies.NAMING_POLICY);
+      setNamePrefix(type.getName());
+    }
+
+    /**
+     * Creates the writer.
+     * 
+     * @return FieldWriter
+     */
+    FieldWriter create() {
+      return (FieldWriter) super.create(type.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void generateClass(ClassVisitor visitor) throws Exception {
+      final Type owner = Type.getType(type);
+      ClassEmitter ce = new ClassEmitter(visitor);
+      ce.begin_class(Constants.V1_2, Constants.ACC_PUBLIC, getClassName(), Constants.TYPE_OBJECT,
+          new Type[] { FIELD_WRITER }, Constants.SOURCE_FILE);
+      EmitUtils.null_constructor(ce);
+
+      final CodeEmitter e = ce.begin_method(Constants.ACC_PUBLIC, SET, null);
+      int[] indexes = new int[fields.size()];
+      for (int i = 0; i < indexes.length; i++)
+        indexes[i] = i;
+
+      e.load_arg(0);
+      e.process_switch(indexes, new ProcessSwitchCallback() {
+        public void processCase(int index, Label end) {
+          Field field = fields.get(index);
+          Type fieldType = Type.getType(field.getType());
+          e.load_arg(1);
+          e.checkcast(owner);
+          e.load_arg(2);
+          e.unbox(fieldType);
+          e.putfield(owner, field.getName(), fieldType);
+          e.return_value();
+        }
+
+        public void processDefault() {
+          e.throw_exception(ILLEGAL_ARGUMENT_EXCEPTION, "Unknown field index");
+        }
+      });
+
+      e.end_method();
+      ce.end_class();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ClassLoader getDefaultClassLoader() {
+      return type.getClassLoader();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object firstInstance(@SuppressWarnings("rawtypes") Class writerType) {
+      return ReflectUtils.newInstance(writerType);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Object nextInstance(Object instance) {
+      return instance;
+    }
+  }
+
+  /**
+   * Gets the writer entry for the type declaring {@code field}, generating it if necessary. Returns
+   * null if {@code field} cannot be written by a generated writer, in which case reflection must be
+   * used.
+   * 
+   * @param field Field to get writer entry for
+   * @return Entry or null
+   */
+  static Entry entryFor(Field field) {
+    Class<?> type = field.getDeclaringClass();
+    Entry entry = entries.get(type);
+
+    if (entry == null) {
+      entry = generate(type);
+      Entry existing = entries.putIfAbsent(type, entry);
+      if (existing != null)
+        entry = existing;
+    }
+
+    return entry.writer != null && entry.fields.contains(field) ? entry : null;
+  }
+
+  /**
+   * Generates a writer entry for {@code type}.
+   * 
+   * @param type Type to generate writer for
+   * @return Entry
+   */
+  private static Entry generate(Class<?> type) {
+    if (type.getClassLoader() == null || type.getName().startsWith("java"))
+      return NO_WRITER;
+
+    List<Field> fields = new ArrayList<Field>();
+    for (Field field : type.getDeclaredFields())
+      if (field.isAnnotationPresent(Inject.class) && isWritable(field))
+        fields.add(field);
+
+    if (fields.isEmpty())
+      return NO_WRITER;
+
+    try {
+      return new Entry(new Generator(type, fields).create(), fields);
+    } catch (RuntimeException e) {
+      return NO_WRITER;
+    } catch (LinkageError e) {
+      return NO_WRITER;
+    }
+  }
+
+  /**
+   * Whether {@code field} can be directly written from within its declaring type's package.
+   * 
+   * @param field Field
+   * @return boolean
+   */
+  private static boolean isWritable(Field field) {
+    int modifiers = field.getModifiers();
+    return !Modifier.isPrivate(modifiers) && !Modifier.isStatic(modifiers)
+        && !Modifier.isFinal(modifiers);
+  }
+}
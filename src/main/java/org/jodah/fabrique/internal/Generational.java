@@ -0,0 +1,48 @@
+package org.jodah.fabrique.internal;
+
+/**
+ * Lazily computes a value once per binding generation. Values that depend upon loaded modules, such
+ * as method aspects, or upon the selected provision engine are computed again on their first use
+ * after either changes.
+ * 
+ * @param <V> Value type
+ */
+abstract class Generational<V> {
+  private volatile Holder<V> holder;
+
+  /**
+   * A value along with the generation it was computed for.
+   */
+  private static final class Holder<V> {
+    final int generation;
+    final V value;
+
+    Holder(int generation, V value) {
+      this.generation = generation;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Gets the value for the current generation, computing it if necessary. Concurrent first uses
+   * may each compute an equivalent value.
+   * 
+   * @return V
+   */
+  V get() {
+    int generation = ProvisionPlan.currentGeneration();
+    Holder<V> result = holder;
+
+    if (result == null || result.generation != generation)
+      holder = result = new Holder<V>(generation, compute());
+
+    return result.value;
+  }
+
+  /**
+   * Computes the value.
+   * 
+   * @return V
+   */
+  protected abstract V compute();
+}
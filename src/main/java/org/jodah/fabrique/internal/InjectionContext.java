@@ -1,17 +1,87 @@
 package org.jodah.fabrique.internal;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
+
+import org.jodah.fabrique.ObjectFactory;
 
 /**
  * Maintains context while performing injection. Used to track circular dependencies.
  * 
  * <p>
+ * A single context is reused by each thread. Each provision enters a new frame via {@link #enter()}
+ * and must exit it via {@link #exit(int)}, after which the types constructed within the frame are
+ * cleared regardless of whether provisioning succeeded. Circular dependencies are only detected
+ * within a frame, so that provisioning started from within a constructor is tracked independently.
+ * The construction path is kept in a reused array, so acyclic provisioning does not allocate.
+ * 
+ * <p>
+ * The context also lends out reused arrays for carrying explicit construction arguments of up to
+ * three elements, see {@link #arguments(Object)}, along with reused carriers for up to two primitive
+ * arguments, see {@link #primitiveArguments(Class, long)}.
+ * 
+ * <p>
+ * Explicit arguments for a scoped binding are handed to its unscoped provider through the context,
+ * so that scoped providers can be shared between threads. The argument array is typically borrowed
+ * and is cleared and reused once provisioning returns, so it is never exposed to scopes. A
+ * {@link org.jodah.fabrique.Scope} that depends on the arguments either compares against them in
+ * place, via {@link #scopeArgumentsHash()} and {@link #scopeArgumentsEqual(Object[])}, or takes a
+ * copy via {@link #copyScopeArguments()}.
+ * 
+ * <p>
  * See {@link ConstructionContext} for additional behavior with resolving circular constructor
  * dependencies.
  */
 public final class InjectionContext {
-  private Set<Class<?>> constructing;
+  private static final ThreadLocal<InjectionContext> contexts = new ThreadLocal<InjectionContext>() {
+    @Override
+    protected InjectionContext initialValue() {
+      return new InjectionContext();
+    }
+  };
+  private final Object[][] arguments = { null, new Object[1], new Object[2], new Object[3] };
+  private final PrimitiveCarrier[] carriers = { new PrimitiveCarrier(), new PrimitiveCarrier() };
+  private Class<?>[] constructing = new Class<?>[8];
+  /** Explicit arguments for the scoped binding currently being provided, if any */
+  private Object[] scopeArguments;
+  private int depth;
+  private int frame;
+  /** Bit set of the arities whose argument arrays are currently lent out */
+  private int argumentsInUse;
+  private boolean carriersInUse;
+
+  private InjectionContext() {
+  }
+
+  /**
+   * Gets the current thread's context.
+   * 
+   * @return InjectionContext
+   */
+  public static InjectionContext current() {
+    return contexts.get();
+  }
+
+  /**
+   * Enters a new frame.
+   * 
+   * @return int The enclosing frame, to be passed to {@link #exit(int)}
+   */
+  public int enter() {
+    int enclosing = frame;
+    frame = depth;
+    return enclosing;
+  }
+
+  /**
+   * Exits the current frame, clearing any types that remain marked as being constructed within it.
+   * 
+   * @param enclosing Enclosing frame returned by {@link #enter()}
+   */
+  public void exit(int enclosing) {
+    while (depth > frame)
+      constructing[--depth] = null;
+    frame = enclosing;
+  }
 
   /**
    * Marks {@code type} as currently being constructed.
@@ -20,9 +90,18 @@ public final class InjectionContext {
    * @return boolean False if {@code type} is currently being constructed.
    */
   public boolean constructing(Class<?> type) {
-    if (constructing == null)
-      constructing = new HashSet<Class<?>>();
-    return constructing.add(type);
+    for (int i = frame; i < depth; i++)
+      if (constructing[i] == type)
+        return false;
+
+    if (depth == constructing.length) {
+      Class<?>[] expanded = new Class<?>[depth * 2];
+      System.arraycopy(constructing, 0, expanded, 0, depth);
+      constructing = expanded;
+    }
+
+    constructing[depth++] = type;
+    return true;
   }
 
   /**
@@ -31,6 +110,215 @@ public final class InjectionContext {
    * @param type Finished type
    */
   public void finished(Class<?> type) {
-    constructing.remove(type);
+    for (int i = depth - 1; i >= frame; i--)
+      if (constructing[i] == type) {
+        System.arraycopy(constructing, i + 1, constructing, i, depth - i - 1);
+        constructing[--depth] = null;
+        return;
+      }
+  }
+
+  /**
+   * Lends out an argument array containing {@code arg}. The array is cleared and reused by
+   * subsequent calls once it has been returned via {@link #release(Object[])}, and so must not be
+   * retained by anything it is passed to. While it is lent out, for instance during nested
+   * provisioning, a new array is created instead.
+   * 
+   * @param arg Argument
+   * @return Object[]
+   */
+  public Object[] arguments(Object arg) {
+    Object[] args = borrow(1);
+    args[0] = arg;
+    return args;
+  }
+
+  /**
+   * Lends out an argument array containing {@code arg1} and {@code arg2}.
+   * 
+   * @param arg1 First argument
+   * @param arg2 Second argument
+   * @return Object[]
+   * @see #arguments(Object)
+   */
+  public Object[] arguments(Object arg1, Object arg2) {
+    Object[] args = borrow(2);
+    args[0] = arg1;
+    args[1] = arg2;
+    return args;
+  }
+
+  /**
+   * Lends out an argument array containing {@code arg1}, {@code arg2} and {@code arg3}.
+   * 
+   * @param arg1 First argument
+   * @param arg2 Second argument
+   * @param arg3 Third argument
+   * @return Object[]
+   * @see #arguments(Object)
+   */
+  public Object[] arguments(Object arg1, Object arg2, Object arg3) {
+    Object[] args = borrow(3);
+    args[0] = arg1;
+    args[1] = arg2;
+    args[2] = arg3;
+    return args;
+  }
+
+  /**
+   * Lends out an argument array containing a carrier of the primitive {@code type} holding
+   * {@code bits}, so that the argument is passed without allocating a
+   * {@link org.jodah.fabrique.Primitives.Primitive}. The carrier, like the array, is reused once the
+   * array has been returned via {@link #release(Object[])}. While the carriers are lent out, new
+   * ones are created instead.
+   * 
+   * @param type Primitive type
+   * @param bits Primitive value, or the bits of a double value as
+   *          {@link Double#doubleToLongBits(double)} returns them
+   * @return Object[]
+   */
+  public Object[] primitiveArguments(Class<?> type, long bits) {
+    Object[] args = borrow(1);
+    args[0] = lendCarriers()[0].carry(type, bits);
+    return args;
+  }
+
+  /**
+   * Lends out an argument array containing carriers of the primitive {@code type} holding
+   * {@code bits1} and {@code bits2}.
+   * 
+   * @param type Primitive type of both arguments
+   * @param bits1 First primitive value
+   * @param bits2 Second primitive value
+   * @return Object[]
+   * @see #primitiveArguments(Class, long)
+   */
+  public Object[] primitiveArguments(Class<?> type, long bits1, long bits2) {
+    Object[] args = borrow(2);
+    PrimitiveCarrier[] lent = lendCarriers();
+    args[0] = lent[0].carry(type, bits1);
+    args[1] = lent[1].carry(type, bits2);
+    return args;
+  }
+
+  /**
+   * Returns an argument array obtained from one of the {@code arguments} or
+   * {@code primitiveArguments} methods, clearing it. Arrays that were not lent out by the context
+   * are ignored.
+   * 
+   * @param args Argument array
+   */
+  public void release(Object[] args) {
+    if (carriersInUse && args.length > 0 && args[0] == carriers[0])
+      carriersInUse = false;
+    if (args.length < arguments.length && args == arguments[args.length]) {
+      for (int i = 0; i < args.length; i++)
+        args[i] = null;
+      argumentsInUse &= ~(1 << args.length);
+    }
+  }
+
+  /**
+   * Sets the explicit arguments for the scoped binding about to be provided, to be taken by its
+   * unscoped provider. The array is not copied and is typically borrowed, see
+   * {@link #arguments(Object)}.
+   * 
+   * @param args Construction arguments, or null
+   * @return Object[] The previous arguments, to be restored once the scoped binding is provided
+   */
+  Object[] scopeArguments(Object[] args) {
+    Object[] previous = scopeArguments;
+    scopeArguments = args;
+    return previous;
+  }
+
+  /**
+   * Gets a copy of the explicit arguments for the scoped binding being provided, which may be
+   * retained.
+   * 
+   * @return Object[] Construction arguments, or null
+   */
+  public Object[] copyScopeArguments() {
+    if (scopeArguments == null)
+      return null;
+
+    Object[] copy = scopeArguments.clone();
+    for (int i = 0; i < copy.length; i++)
+      if (copy[i] instanceof PrimitiveCarrier)
+        copy[i] = ((PrimitiveCarrier) copy[i]).copy();
+    return copy;
+  }
+
+  /**
+   * Gets the hash code of the explicit arguments for the scoped binding being provided, as
+   * {@link Arrays#hashCode(Object[])} computes it, without exposing them.
+   * 
+   * @return int Hash code, or 0 if there are no arguments
+   */
+  public int scopeArgumentsHash() {
+    return Arrays.hashCode(scopeArguments);
+  }
+
+  /**
+   * Returns whether {@code args} are equal element-wise to the explicit arguments for the scoped
+   * binding being provided, as {@link Arrays#equals(Object[], Object[])} compares them.
+   * 
+   * @param args Arguments to compare, or null
+   * @return boolean
+   */
+  public boolean scopeArgumentsEqual(Object[] args) {
+    return Arrays.equals(scopeArguments, args);
+  }
+
+  /**
+   * Takes the explicit arguments for the scoped binding being provided, clearing them so that they
+   * do not apply to nested provisions. The array is borrowed and must not be retained.
+   * 
+   * @return Object[] Construction arguments, or null
+   */
+  Object[] takeScopeArguments() {
+    Object[] args = scopeArguments;
+    scopeArguments = null;
+    return args;
+  }
+
+  /**
+   * Lends out an empty argument array of length {@code arity}, to be returned via
+   * {@link #release(Object[])} and not retained. Arrays longer than those the context keeps, or
+   * whose arity is already lent out, are created.
+   * 
+   * @param arity Number of arguments
+   * @return Object[]
+   */
+  Object[] lend(int arity) {
+    if (arity == 0)
+      return ObjectFactory.NO_ARGS;
+    return arity < arguments.length ? borrow(arity) : new Object[arity];
+  }
+
+  /**
+   * Lends out the primitive carriers, or creates new ones if they are already lent out.
+   * 
+   * @return PrimitiveCarrier[]
+   */
+  private PrimitiveCarrier[] lendCarriers() {
+    if (carriersInUse)
+      return new PrimitiveCarrier[] { new PrimitiveCarrier(), new PrimitiveCarrier() };
+    carriersInUse = true;
+    return carriers;
+  }
+
+  /**
+   * Borrows the argument array for {@code arity}, or creates one if it is already lent out.
+   * 
+   * @param arity Number of arguments
+   * @return Object[]
+   */
+  private Object[] borrow(int arity) {
+    int bit = 1 << arity;
+    if ((argumentsInUse & bit) != 0)
+      return new Object[arity];
+    argumentsInUse |= bit;
+    return arguments[arity];
   }
 }
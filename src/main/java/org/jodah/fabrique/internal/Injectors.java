@@ -12,10 +12,10 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jodah.fabrique.BindingAnnotation;
 import org.jodah.fabrique.ConfigurationException;
@@ -31,9 +31,9 @@ import org.jodah.fabrique.internal.InternalFactory.FactoryType;
  */
 public class Injectors {
   private static final Key<?>[] NO_DEPENDENCIES = new Key<?>[0];
-  private static final Map<Class<?>, List<MemberInjector>> memberInjectors = new HashMap<Class<?>, List<MemberInjector>>();
-  private static final Map<Class<?>, List<ConstructionInjector<?>>> constructorInjectors = new HashMap<Class<?>, List<ConstructionInjector<?>>>();
-  private static final Map<Class<?>, List<ConstructionInjector<?>>> providerMethodInjectors = new HashMap<Class<?>, List<ConstructionInjector<?>>>();
+  private static final Map<Class<?>, List<MemberInjector>> memberInjectors = new ConcurrentHashMap<Class<?>, List<MemberInjector>>();
+  private static final Map<Class<?>, List<ConstructionInjector<?>>> constructorInjectors = new ConcurrentHashMap<Class<?>, List<ConstructionInjector<?>>>();
+  private static final Map<Class<?>, List<ConstructionInjector<?>>> providerMethodInjectors = new ConcurrentHashMap<Class<?>, List<ConstructionInjector<?>>>();
   private static String PROVIDER_GET_METHOD_NAME = "get";
 
   /**
@@ -357,11 +357,40 @@ public class Injectors {
       else
         params[i] = args[i].getClass();
 
+    return match(type, injectors, params, matchAmbiguous);
+  }
+
+  /**
+   * Gets the construction injector from the given {@code injectors} whose parameters accept
+   * arguments of types {@code params}.
+   * 
+   * @param injectors Injectors to match against
+   * @param params Argument types
+   * @return ConstructionInjector<T> or null if no injector matches
+   */
+  static <T> ConstructionInjector<T> injectorForParams(Class<?> type,
+      List<ConstructionInjector<?>> injectors, Class<?>[] params) {
+    return match(type, injectors, params, false);
+  }
+
+  /**
+   * Gets the construction injector from the given {@code injectors} for {@code params}, where null
+   * elements of {@code params} match any parameter type.
+   * 
+   * @param injectors Injectors to match against
+   * @param params Argument types
+   * @param matchAmbiguous Whether any of {@code params} are null
+   * @return ConstructionInjector<T>
+   * @throws InjectionException If {@code matchAmbiguous} and multiple injectors match
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> ConstructionInjector<T> match(Class<?> type,
+      List<ConstructionInjector<?>> injectors, Class<?>[] params, boolean matchAmbiguous) {
     ConstructionInjector<T> result = null;
     int j = 0;
     int matches = 0;
 
-    for (i = 0; i < injectors.size(); i++) {
+    for (int i = 0; i < injectors.size(); i++) {
       ConstructionInjector<T> injector = (ConstructionInjector<T>) injectors.get(i);
       Key<?>[] dependencies = injector.getDependencies();
 
@@ -509,6 +538,16 @@ public class Injectors {
     return Key.get(field.getType(), bindingAnnotationsFor(field, field.getAnnotations()));
   }
 
+  /**
+   * Obtains the key for the type returned by {@code method}, named by its binding annotation.
+   * 
+   * @param method Method
+   * @return Key<?>
+   */
+  static Key<?> returnKeyFor(Method method) {
+    return Key.get(method.getReturnType(), bindingAnnotationsFor(method, method.getAnnotations()));
+  }
+
   /**
    * Obtains explicit override optional injectors for {@code type} and {@code params}.
    * 
@@ -25,7 +25,7 @@ public abstract class InternalFactory<T> {
   protected List<ConstructionInjector<?>> constructionInjectors;
   protected Set<Class<?>[]> optionalParams;
   protected Class<?>[] defaultParams;
-  private List<MemberInjector> memberInjectors;
+  private MemberInjector[] memberInjectors;
 
   /**
    * Creates a new InternalFactory object.
@@ -126,7 +126,8 @@ public abstract class InternalFactory<T> {
    * @throws ConfigurationException On any failed configuration
    */
   void initialize() {
-    memberInjectors = Injectors.memberInjectorsFor(subject);
+    List<MemberInjector> injectors = Injectors.memberInjectorsFor(subject);
+    memberInjectors = injectors.toArray(new MemberInjector[injectors.size()]);
   }
 
   /**
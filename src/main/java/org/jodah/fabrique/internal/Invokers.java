@@ -0,0 +1,648 @@
+package org.jodah.fabrique.internal;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import net.sf.cglib.reflect.FastClass;
+
+import org.jodah.fabrique.ObjectFactory;
+import org.jodah.fabrique.Primitives;
+import org.jodah.fabrique.Primitives.Primitive;
+import org.jodah.fabrique.ProvisionEngine;
+
+/**
+ * Produces invokers for methods and setters for fields according to the selected
+ * {@link ProvisionEngine}. See {@link ConstructorProxies} for constructors.
+ * 
+ * <p>
+ * With the {@link ProvisionEngine#METHOD_HANDLE} engine, public members of public types that are
+ * visible to this class are invoked through classes spun by {@link LambdaMetafactory}, which call
+ * the member directly and can be inlined by the JIT. Members taking up to three arguments are
+ * supported. Other members, and fields, are invoked through method handles. Arguments are checked
+ * before invocation, so that only exceptions thrown by the member itself are reported as
+ * {@link InvocationTargetException}s. Arguments that do not match exactly are passed on to
+ * reflection, which applies its own conversions and errors.
+ */
+public final class Invokers {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType METHOD_TYPE = MethodType.methodType(Object.class, Object.class,
+      Object[].class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class,
+      Object.class);
+  private static final Class<?>[] CALL_TYPES = { Call0.class, Call1.class, Call2.class,
+      Call3.class, Call4.class };
+  private static final Class<?>[] RUN_TYPES = { null, Run1.class, Run2.class, Run3.class,
+      Run4.class };
+  private static volatile ProvisionEngine engine = ProvisionEngine.GENERATED;
+
+  private Invokers() {
+  }
+
+  /** Spun call with no arguments */
+  interface Call0 {
+    Object call();
+  }
+
+  /** Spun call with one argument */
+  interface Call1 {
+    Object call(Object a);
+  }
+
+  /** Spun call with two arguments */
+  interface Call2 {
+    Object call(Object a, Object b);
+  }
+
+  /** Spun call with three arguments */
+  interface Call3 {
+    Object call(Object a, Object b, Object c);
+  }
+
+  /** Spun call with four arguments */
+  interface Call4 {
+    Object call(Object a, Object b, Object c, Object d);
+  }
+
+  /** Spun void call with one argument */
+  interface Run1 {
+    void run(Object a);
+  }
+
+  /** Spun void call with two arguments */
+  interface Run2 {
+    void run(Object a, Object b);
+  }
+
+  /** Spun void call with three arguments */
+  interface Run3 {
+    void run(Object a, Object b, Object c);
+  }
+
+  /** Spun void call with four arguments */
+  interface Run4 {
+    void run(Object a, Object b, Object c, Object d);
+  }
+  /**
+   * Invokes a method.
+   */
+  interface MethodInvoker {
+    /**
+     * Invokes the method for {@code target} with {@code args}.
+     * 
+     * @param target Object to invoke method on
+     * @param args Method arguments
+     * @return Object Method result
+     * @throws Exception If invocation fails
+     */
+    Object invoke(Object target, Object[] args) throws Exception;
+  }
+
+  /**
+   * Sets a field.
+   */
+  interface FieldSetter {
+    /**
+     * Sets the field for {@code target} to {@code value}.
+     * 
+     * @param target Object to set field for
+     * @param value Value to set
+     * @throws Exception If setting fails
+     */
+    void set(Object target, Object value) throws Exception;
+  }
+
+  /**
+   * Gets the selected provision engine.
+   * 
+   * @return ProvisionEngine
+   */
+  public static ProvisionEngine getEngine() {
+    return engine;
+  }
+
+  /**
+   * Selects the provision engine. Invokers are produced for the new engine on their next use. The
+   * engine is global to the JVM, and provisions running while it is switched may use either
+   * engine.
+   * 
+   * @param engine Provision engine
+   */
+  public static void setEngine(ProvisionEngine engine) {
+    Invokers.engine = engine;
+    ProvisionPlan.invalidateAll();
+  }
+
+  /**
+   * Prepares {@code args}, which may contain {@link Primitive} objects, for a generated invoker.
+   * Generated invokers unbox numeric primitives through {@link Number}, which {@link Primitive}
+   * extends, so only {@code char} and {@code boolean} primitives are converted to their wrapper
+   * types. Returns {@code args} itself if nothing is converted.
+   * 
+   * @param args Arguments
+   * @return Object[]
+   */
+  static Object[] generatedArgs(Object[] args) {
+    for (int i = 0; i < args.length; i++)
+      if (args[i] instanceof Primitive) {
+        Class<?> type = ((Primitive) args[i]).getType();
+        if (type == Character.TYPE || type == Boolean.TYPE)
+          return Primitives.convertPrimitives(args);
+      }
+    return args;
+  }
+
+  /**
+   * Creates an invoker for {@code method}.
+   * 
+   * @param method Method to invoke
+   * @return MethodInvoker
+   */
+  static MethodInvoker invokerFor(Method method) {
+    if (engine == ProvisionEngine.METHOD_HANDLE) {
+      MethodInvoker invoker = lambdaInvokerFor(method);
+      if (invoker != null)
+        return invoker;
+
+      try {
+        return new HandleMethodInvoker(method);
+      } catch (IllegalAccessException ignore) {
+      }
+    } else if (engine == ProvisionEngine.GENERATED && !Modifier.isPrivate(method.getModifiers())) {
+      FastClass fastClass = ConstructorProxies.fastClassFor(method.getDeclaringClass());
+      int index = fastClass == null ? -1 : fastClass.getIndex(method.getName(),
+          method.getParameterTypes());
+
+      if (index >= 0)
+        return new GeneratedMethodInvoker(fastClass, index);
+    }
+
+    return new ReflectiveMethodInvoker(method);
+  }
+
+  /**
+   * Creates a setter for {@code field}.
+   * 
+   * @param field Field to set
+   * @return FieldSetter
+   */
+  static FieldSetter setterFor(Field field) {
+    if (engine == ProvisionEngine.METHOD_HANDLE) {
+      try {
+        return new HandleFieldSetter(field);
+      } catch (IllegalAccessException ignore) {
+      }
+    } else if (engine == ProvisionEngine.GENERATED) {
+      FieldWriters.Entry entry = FieldWriters.entryFor(field);
+      if (entry != null)
+        return new GeneratedFieldSetter(entry, entry.fields.indexOf(field));
+    }
+
+    return new ReflectiveFieldSetter(field);
+  }
+
+  /**
+   * Determines whether {@code args} can be passed to a member with {@code parameterTypes} without
+   * conversion, where {@code boxedTypes} are the wrapper types of {@code parameterTypes}.
+   * 
+   * @param parameterTypes Parameter types
+   * @param boxedTypes Parameter types with primitives replaced by their wrapper types
+   * @param args Arguments, or null for none
+   * @return boolean
+   */
+  static boolean accepts(Class<?>[] parameterTypes, Class<?>[] boxedTypes, Object[] args) {
+    if (args == null)
+      return parameterTypes.length == 0;
+    if (args.length != parameterTypes.length)
+      return false;
+
+    for (int i = 0; i < args.length; i++)
+      if (args[i] == null ? parameterTypes[i].isPrimitive() : !boxedTypes[i].isInstance(args[i]))
+        return false;
+    return true;
+  }
+
+  /**
+   * Gets {@code types} with primitives replaced by their wrapper types.
+   */
+  static Class<?>[] boxed(Class<?>[] types) {
+    return MethodType.methodType(void.class, types).wrap().parameterArray();
+  }
+
+  /**
+   * Determines whether {@code member} can be called directly from a class spun by
+   * {@link LambdaMetafactory} on behalf of this class. The member and all of the types in its
+   * signature must be public and visible to this class's class loader.
+   * 
+   * @param member Member to call
+   * @param signature Parameter and return types of {@code member}
+   * @return boolean
+   */
+  static boolean isLinkable(Member member, Class<?>... signature) {
+    if (!Modifier.isPublic(member.getModifiers()) || member.getDeclaringClass().isInterface()
+        || member.getDeclaringClass().getClassLoader() == null
+        || !isLinkable(member.getDeclaringClass()))
+      return false;
+
+    for (Class<?> type : signature)
+      if (!isLinkable(type))
+        return false;
+    return true;
+  }
+
+  /**
+   * Spins an implementation of one of the {@code Call} or {@code Run} interfaces that invokes
+   * {@code implementation} directly, casting and unboxing its arguments.
+   * 
+   * @param implementation Direct handle for the member to call
+   * @return Object or null if the handle's arity is not supported or the member cannot be linked
+   */
+  static Object spin(MethodHandle implementation) {
+    MethodType type = implementation.type();
+    int arity = type.parameterCount();
+    boolean isVoid = type.returnType() == void.class;
+    Class<?> functionType = arity >= CALL_TYPES.length ? null : isVoid ? RUN_TYPES[arity]
+        : CALL_TYPES[arity];
+    if (functionType == null)
+      return null;
+
+    MethodType erased = MethodType.genericMethodType(arity);
+    MethodType instantiated = type.wrap();
+    if (isVoid) {
+      erased = erased.changeReturnType(void.class);
+      instantiated = instantiated.changeReturnType(void.class);
+    }
+
+    try {
+      return LambdaMetafactory.metafactory(LOOKUP, isVoid ? "run" : "call",
+          MethodType.methodType(functionType), erased, implementation, instantiated).getTarget()
+          .invoke();
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  /**
+   * Creates a lambda invoker for {@code method}.
+   * 
+   * @param method Method to invoke
+   * @return MethodInvoker or null if {@code method} cannot be linked
+   */
+  private static MethodInvoker lambdaInvokerFor(Method method) {
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    if (Modifier.isStatic(method.getModifiers())
+        || !isLinkable(method, append(parameterTypes, method.getReturnType())))
+      return null;
+
+    Object function;
+    try {
+      function = spin(LOOKUP.unreflect(method));
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+
+    if (function instanceof Call1) {
+      final Call1 call = (Call1) function;
+      return new LambdaMethodInvoker(method) {
+        Object call(Object target, Object[] args) {
+          return call.call(target);
+        }
+      };
+    } else if (function instanceof Call2) {
+      final Call2 call = (Call2) function;
+      return new LambdaMethodInvoker(method) {
+        Object call(Object target, Object[] args) {
+          return call.call(target, args[0]);
+        }
+      };
+    } else if (function instanceof Call3) {
+      final Call3 call = (Call3) function;
+      return new LambdaMethodInvoker(method) {
+        Object call(Object target, Object[] args) {
+          return call.call(target, args[0], args[1]);
+        }
+      };
+    } else if (function instanceof Call4) {
+      final Call4 call = (Call4) function;
+      return new LambdaMethodInvoker(method) {
+        Object call(Object target, Object[] args) {
+          return call.call(target, args[0], args[1], args[2]);
+        }
+      };
+    } else if (function instanceof Run1) {
+      final Run1 run = (Run1) function;
+      return new LambdaMethodInvoker(method) {
+        Object call(Object target, Object[] args) {
+          run.run(target);
+          return null;
+        }
+      };
+    } else if (function instanceof Run2) {
+      final Run2 run = (Run2) function;
+      return new LambdaMethodInvoker(method) {
+        Object call(Object target, Object[] args) {
+          run.run(target, args[0]);
+          return null;
+        }
+      };
+    } else if (function instanceof Run3) {
+      final Run3 run = (Run3) function;
+      return new LambdaMethodInvoker(method) {
+        Object call(Object target, Object[] args) {
+          run.run(target, args[0], args[1]);
+          return null;
+        }
+      };
+    } else if (function instanceof Run4) {
+      final Run4 run = (Run4) function;
+      return new LambdaMethodInvoker(method) {
+        Object call(Object target, Object[] args) {
+          run.run(target, args[0], args[1], args[2]);
+          return null;
+        }
+      };
+    }
+
+    return null;
+  }
+
+  /**
+   * Determines whether {@code type} is public, along with any enclosing types, and visible to this
+   * class's class loader. Bootstrap types are only linked from {@code java} packages.
+   */
+  private static boolean isLinkable(Class<?> type) {
+    while (type.isArray())
+      type = type.getComponentType();
+    if (type.isPrimitive())
+      return true;
+
+    for (Class<?> c = type; c != null; c = c.getEnclosingClass())
+      if (!Modifier.isPublic(c.getModifiers()))
+        return false;
+
+    if (type.getClassLoader() == null)
+      return type.getName().startsWith("java.");
+
+    try {
+      return Class.forName(type.getName(), false, Invokers.class.getClassLoader()) == type;
+    } catch (ClassNotFoundException e) {
+      return false;
+    } catch (LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * Gets {@code types} followed by {@code type}.
+   */
+  private static Class<?>[] append(Class<?>[] types, Class<?> type) {
+    Class<?>[] result = new Class<?>[types.length + 1];
+    System.arraycopy(types, 0, result, 0, types.length);
+    result[types.length] = type;
+    return result;
+  }
+
+  /**
+   * Invokes a method after checking its target and arguments, passing invocations whose arguments
+   * do not match exactly on to reflection.
+   */
+  abstract static class CheckedMethodInvoker implements MethodInvoker {
+    final Method method;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] boxedTypes;
+    /** Whether any parameter is primitive, and so may be passed a primitive argument */
+    private final boolean hasPrimitives;
+
+    /**
+     * Creates a new CheckedMethodInvoker object.
+     * 
+     * @param method Method to invoke
+     */
+    CheckedMethodInvoker(Method method) {
+      this.method = method;
+      parameterTypes = method.getParameterTypes();
+      boxedTypes = boxed(parameterTypes);
+      boolean primitive = false;
+      for (Class<?> type : parameterTypes)
+        primitive |= type.isPrimitive();
+      hasPrimitives = primitive;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object invoke(Object target, Object[] args) throws Exception {
+      Object[] converted = args == null ? ObjectFactory.NO_ARGS : args;
+      if (hasPrimitives)
+        converted = Primitives.convertPrimitives(converted);
+      if (!method.getDeclaringClass().isInstance(target)
+          || !accepts(parameterTypes, boxedTypes, converted))
+        return method.invoke(target, converted);
+
+      try {
+        return call(target, converted);
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    }
+
+    /**
+     * Calls the method with checked {@code target} and {@code args}.
+     * 
+     * @param target Object to invoke method on
+     * @param args Method arguments
+     * @return Object Method result
+     * @throws Throwable Thrown by the method
+     */
+    abstract Object call(Object target, Object[] args) throws Throwable;
+  }
+
+  /**
+   * Invokes a method through a class spun by {@link LambdaMetafactory}.
+   */
+  abstract static class LambdaMethodInvoker extends CheckedMethodInvoker {
+    /**
+     * Creates a new LambdaMethodInvoker object.
+     * 
+     * @param method Method to invoke
+     */
+    LambdaMethodInvoker(Method method) {
+      super(method);
+    }
+  }
+
+  /**
+   * Invokes a method through a method handle that spreads its argument array.
+   */
+  static final class HandleMethodInvoker extends CheckedMethodInvoker {
+    private final MethodHandle handle;
+
+    /**
+     * Creates a new HandleMethodInvoker object.
+     * 
+     * @param method Method to invoke
+     * @throws IllegalAccessException if {@code method} is not accessible
+     */
+    HandleMethodInvoker(Method method) throws IllegalAccessException {
+      super(method);
+      handle = LOOKUP.unreflect(method)
+          .asSpreader(Object[].class, method.getParameterTypes().length).asType(METHOD_TYPE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    Object call(Object target, Object[] args) throws Throwable {
+      return (Object) handle.invokeExact(target, args);
+    }
+  }
+
+  /**
+   * Invokes a method through a generated FastClass.
+   */
+  static final class GeneratedMethodInvoker implements MethodInvoker {
+    private final FastClass fastClass;
+    private final int index;
+
+    /**
+     * Creates a new GeneratedMethodInvoker object.
+     * 
+     * @param fastClass FastClass for the method's declaring class
+     * @param index Method index within {@code fastClass}
+     */
+    GeneratedMethodInvoker(FastClass fastClass, int index) {
+      this.fastClass = fastClass;
+      this.index = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object invoke(Object target, Object[] args) throws Exception {
+      return fastClass.invoke(index, target, generatedArgs(args));
+    }
+  }
+
+  /**
+   * Invokes a method through reflection.
+   */
+  static final class ReflectiveMethodInvoker implements MethodInvoker {
+    private final Method method;
+
+    /**
+     * Creates a new ReflectiveMethodInvoker object.
+     * 
+     * @param method Method to invoke
+     */
+    ReflectiveMethodInvoker(Method method) {
+      this.method = method;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public Object invoke(Object target, Object[] args) throws Exception {
+      return method.invoke(target, Primitives.convertPrimitives(args));
+    }
+  }
+
+  /**
+   * Sets a field through a method handle. Values that do not match the field's type exactly are
+   * passed on to reflection.
+   */
+  static final class HandleFieldSetter implements FieldSetter {
+    private final Field field;
+    private final boolean primitive;
+    private final Class<?> boxedType;
+    private final MethodHandle handle;
+
+    /**
+     * Creates a new HandleFieldSetter object.
+     * 
+     * @param field Field to set
+     * @throws IllegalAccessException if {@code field} is not accessible
+     */
+    HandleFieldSetter(Field field) throws IllegalAccessException {
+      this.field = field;
+      primitive = field.getType().isPrimitive();
+      boxedType = boxed(new Class<?>[] { field.getType() })[0];
+      handle = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void set(Object target, Object value) throws Exception {
+      if (!field.getDeclaringClass().isInstance(target)
+          || (value == null ? primitive : !boxedType.isInstance(value))) {
+        field.set(target, value);
+        return;
+      }
+
+      try {
+        handle.invokeExact(target, value);
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new IllegalStateException(t);
+      }
+    }
+  }
+
+  /**
+   * Sets a field through a generated field writer.
+   */
+  static final class GeneratedFieldSetter implements FieldSetter {
+    private final FieldWriters.Entry entry;
+    private final int index;
+
+    /**
+     * Creates a new GeneratedFieldSetter object.
+     * 
+     * @param entry Field writer entry for the field's declaring class
+     * @param index Field index within {@code entry}
+     */
+    GeneratedFieldSetter(FieldWriters.Entry entry, int index) {
+      this.entry = entry;
+      this.index = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void set(Object target, Object value) {
+      entry.writer.set(index, target, value);
+    }
+  }
+
+  /**
+   * Sets a field through reflection.
+   */
+  static final class ReflectiveFieldSetter implements FieldSetter {
+    private final Field field;
+
+    /**
+     * Creates a new ReflectiveFieldSetter object.
+     * 
+     * @param field Field to set
+     */
+    ReflectiveFieldSetter(Field field) {
+      this.field = field;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void set(Object target, Object value) throws Exception {
+      field.set(target, value);
+    }
+  }
+}
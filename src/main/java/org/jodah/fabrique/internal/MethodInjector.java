@@ -7,10 +7,18 @@ import org.jodah.fabrique.InjectionException;
 import org.jodah.fabrique.Key;
 
 /**
- * Performs dependency injection for a single method.
+ * Performs dependency injection for a single method. The method is invoked through an invoker for
+ * the selected {@link org.jodah.fabrique.ProvisionEngine}, which is the declaring type's cglib
+ * FastClass for the default engine. The invoker is resolved once per binding generation, and the
+ * method's arguments are provided into an array lent by the {@link InjectionContext}.
  */
 public class MethodInjector extends AbstractDependencyInjector implements MemberInjector {
   private final Method method;
+  private final Generational<Invokers.MethodInvoker> invoker = new Generational<Invokers.MethodInvoker>() {
+    protected Invokers.MethodInvoker compute() {
+      return Invokers.invokerFor(method);
+    }
+  };
 
   /**
    * Creates a new MethodInjector object.
@@ -32,11 +40,17 @@ public class MethodInjector extends AbstractDependencyInjector implements Member
    * {@inheritDoc}
    */
   public void inject(InjectionContext context, Object object) {
+    Object[] args = dependencies == null ? null : context.lend(dependencies.length);
     try {
-      method.invoke(object, injectDependencies(context));
+      if (args != null)
+        plan().provide(context, args);
+      invoker.get().invoke(object, args);
     } catch (Exception e) {
       if (!optional)
         throw new InjectionException("Method injection failed for " + method, e);
+    } finally {
+      if (args != null)
+        context.release(args);
     }
   }
 }
@@ -0,0 +1,504 @@
+package org.jodah.fabrique.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jodah.fabrique.Key;
+import org.jodah.fabrique.Provider;
+import org.jodah.fabrique.ProvisionException;
+import org.jodah.fabrique.Scopes.PoolScope.Leak;
+import org.jodah.fabrique.Scopes.PoolScope.Lifecycle;
+import org.jodah.fabrique.Scopes.PoolScope.Metrics;
+import org.jodah.fabrique.Scopes.PoolScope.Overflow;
+
+/**
+ * A bounded, concurrent pool of objects for a single binding.
+ * 
+ * <p>
+ * Borrowing is bounded by a semaphore holding one permit per pooled object. Idle objects are kept
+ * in striped slots, indexed by thread, in front of a shared lock-free queue, so that a thread which
+ * releases an object and borrows again usually reuses it without contention. Objects are created
+ * lazily up to the pool size. When no permit is available within the acquire timeout, the pool's
+ * {@link Overflow} policy decides whether to fail or to create a transient object that is discarded
+ * when released.
+ * 
+ * <p>
+ * Pooled objects are registered by identity in an open addressed table, sized for the pool, with a
+ * loan flag per slot. Borrowing and releasing a pooled object flip its flag without locking or
+ * allocating, and only objects on loan can be released, which rejects double and foreign
+ * releases. When a leak threshold is set, the time and thread of each loan are recorded alongside
+ * the flag, and loans older than the threshold are reported by {@link #leaks()}. Transient overflow
+ * objects are tracked in a synchronized identity map, since creating them allocates regardless.
+ * 
+ * @param <T> Pooled type
+ */
+public final class ObjectPool<T> {
+  /** Marks a table slot whose object was discarded */
+  private static final Object REMOVED = new Object();
+  private static final long MIN_PARK_NANOS = 1000;
+  private static final int MAX_PARK_SHIFT = 10;
+  private final Key<T> key;
+  private final Provider<T> provider;
+  private final int size;
+  private final long timeoutNanos;
+  private final long leakThresholdNanos;
+  private final Overflow overflow;
+  private final Lifecycle lifecycle;
+  private final Semaphore permits;
+  private final AtomicReferenceArray<T> stripes;
+  private final int stripeMask;
+  private final Queue<T> idle = new ConcurrentLinkedQueue<T>();
+  private final AtomicInteger created = new AtomicInteger();
+  private final AtomicInteger borrowed = new AtomicInteger();
+  /** Pooled objects by identity hash, written while holding the table's lock */
+  private final AtomicReferenceArray<Object> members;
+  private final int memberMask;
+  /** Whether the object in each table slot is on loan */
+  private final AtomicIntegerArray onLoan;
+  /** When the object in each table slot was borrowed, or null without a leak threshold */
+  private final AtomicLongArray borrowedAt;
+  /** Which thread borrowed the object in each table slot, or null without a leak threshold */
+  private final AtomicReferenceArray<String> borrowers;
+  /** Outstanding transient overflow objects, guarded by itself */
+  private final Map<Object, Loan> overflowed = new IdentityHashMap<Object, Loan>();
+  private volatile int overflowCount;
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder overflows = new LongAdder();
+  private final LongAdder discarded = new LongAdder();
+
+  /**
+   * Creates a new ObjectPool object.
+   * 
+   * @param key Key of pooled binding
+   * @param provider Provider to create pooled objects with
+   * @param size Maximum number of pooled objects
+   * @param timeoutNanos Time to wait for an object before overflowing, or a negative value to wait
+   *          indefinitely
+   * @param leakThresholdNanos Time after which a borrowed object is reported as leaked, or a
+   *          negative value to not track loans
+   * @param overflow Overflow policy
+   * @param lifecycle Lifecycle hooks, or null
+   */
+  public ObjectPool(Key<T> key, Provider<T> provider, int size, long timeoutNanos,
+      long leakThresholdNanos, Overflow overflow, Lifecycle lifecycle) {
+    this.key = key;
+    this.provider = provider;
+    this.size = size;
+    this.timeoutNanos = timeoutNanos;
+    this.leakThresholdNanos = leakThresholdNanos;
+    this.overflow = overflow;
+    this.lifecycle = lifecycle;
+    permits = new Semaphore(size);
+
+    int stripeCount = 1;
+    while (stripeCount < Math.min(size, Runtime.getRuntime().availableProcessors()))
+      stripeCount <<= 1;
+    stripes = new AtomicReferenceArray<T>(stripeCount);
+    stripeMask = stripeCount - 1;
+
+    int capacity = Integer.highestOneBit(size) << 2;
+    members = new AtomicReferenceArray<Object>(capacity);
+    memberMask = capacity - 1;
+    onLoan = new AtomicIntegerArray(capacity);
+    borrowedAt = leakThresholdNanos < 0 ? null : new AtomicLongArray(capacity);
+    borrowers = leakThresholdNanos < 0 ? null : new AtomicReferenceArray<String>(capacity);
+  }
+
+  /**
+   * Borrows an object from the pool, creating one if none are idle and the pool is not full.
+   * 
+   * @return T
+   * @throws ProvisionException if no object becomes available within the timeout and the overflow
+   *           policy is {@link Overflow#FAIL}, or if interrupted while waiting
+   */
+  public T acquire() {
+    acquisitions.increment();
+
+    if (!permits.tryAcquire()) {
+      long start = System.nanoTime();
+      boolean acquired = false;
+
+      try {
+        if (overflow != Overflow.CREATE || timeoutNanos != 0) {
+          if (timeoutNanos < 0) {
+            permits.acquire();
+            acquired = true;
+          } else
+            acquired = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ProvisionException("Interrupted while waiting for pooled " + key);
+      } finally {
+        waitNanos.add(System.nanoTime() - start);
+      }
+
+      if (!acquired) {
+        timeouts.increment();
+        if (overflow == Overflow.FAIL)
+          throw new ProvisionException("Timed out waiting for pooled " + key);
+        return lendOverflow(createOverflow());
+      }
+    }
+
+    try {
+      T object = take();
+      borrowed.incrementAndGet();
+      lend(slotOf(object));
+      return object;
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    } catch (Error e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns {@code object} to the pool. Transient overflow objects are discarded.
+   * 
+   * @param object Object to return
+   * @throws IllegalArgumentException if {@code object} is not on loan from the pool, such as when
+   *           it was already released or was never borrowed from the pool
+   */
+  public void release(T object) {
+    int slot = object == null ? -1 : slotOf(object);
+    if (slot < 0) {
+      releaseOverflow(object);
+      return;
+    }
+    if (!onLoan.compareAndSet(slot, 1, 0))
+      throw notOnLoan(object);
+    if (borrowers != null)
+      borrowers.set(slot, null);
+
+    borrowed.decrementAndGet();
+    try {
+      if (lifecycle != null)
+        lifecycle.reset(key, object);
+      int stripe = stripeFor(Thread.currentThread());
+      if (!stripes.compareAndSet(stripe, null, object))
+        idle.offer(object);
+    } catch (RuntimeException e) {
+      discard(object);
+      throw e;
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Gets a snapshot of the pool's metrics. Counts are maintained as objects are borrowed and
+   * returned, so taking a snapshot does not walk the pool.
+   * 
+   * @return Metrics
+   */
+  public Metrics metrics() {
+    int borrowedCount = borrowed.get();
+    int total = created.get();
+    return new Metrics(size, total, borrowedCount, Math.max(total - borrowedCount, 0),
+        acquisitions.sum(), waitNanos.sum(), timeouts.sum(), overflows.sum(), discarded.sum());
+  }
+
+  /**
+   * Gets the objects that have been on loan for longer than the leak threshold, longest first.
+   * Walks every pooled and outstanding overflow object, so it is meant for diagnostics rather than
+   * frequent use.
+   * 
+   * @return List of leaks, empty if the pool has no leak threshold
+   */
+  public List<Leak> leaks() {
+    if (leakThresholdNanos < 0)
+      return Collections.emptyList();
+
+    long now = System.nanoTime();
+    List<Leak> leaks = new ArrayList<Leak>();
+    for (int i = 0; i < members.length(); i++) {
+      Object member = members.get(i);
+      if (member != null && member != REMOVED && onLoan.get(i) == 1) {
+        long age = now - borrowedAt.get(i);
+        if (age >= leakThresholdNanos)
+          leaks.add(new Leak(member, age, borrowers.get(i)));
+      }
+    }
+
+    if (overflowCount > 0) {
+      synchronized (overflowed) {
+        for (Map.Entry<Object, Loan> entry : overflowed.entrySet()) {
+          long age = now - entry.getValue().borrowedAt;
+          if (age >= leakThresholdNanos)
+            leaks.add(new Leak(entry.getKey(), age, entry.getValue().thread));
+        }
+      }
+    }
+
+    Collections.sort(leaks, new Comparator<Leak>() {
+      public int compare(Leak leak1, Leak leak2) {
+        return Long.compare(leak2.getAge(TimeUnit.NANOSECONDS),
+            leak1.getAge(TimeUnit.NANOSECONDS));
+      }
+    });
+    return leaks;
+  }
+
+  /**
+   * Marks the object in {@code slot} as on loan to the current thread. The loan's time and thread
+   * are recorded before the flag is set, so that {@link #leaks()} never pairs a loan with the
+   * time of an earlier one.
+   */
+  private void lend(int slot) {
+    if (borrowedAt != null) {
+      borrowedAt.set(slot, System.nanoTime());
+      borrowers.set(slot, Thread.currentThread().getName());
+    }
+    onLoan.set(slot, 1);
+  }
+
+  /**
+   * Records the transient overflow object {@code object} as on loan.
+   * 
+   * @return {@code object}
+   */
+  private T lendOverflow(T object) {
+    Loan loan = borrowedAt == null ? Loan.UNTRACKED : new Loan(System.nanoTime(), Thread
+        .currentThread().getName());
+    synchronized (overflowed) {
+      overflowed.put(object, loan);
+      overflowCount = overflowed.size();
+    }
+    return object;
+  }
+
+  /**
+   * Discards the transient overflow object {@code object}.
+   * 
+   * @throws IllegalArgumentException if {@code object} is not an overflow object on loan
+   */
+  private void releaseOverflow(T object) {
+    if (object != null && overflowCount > 0) {
+      synchronized (overflowed) {
+        if (overflowed.remove(object) != null) {
+          overflowCount = overflowed.size();
+          return;
+        }
+      }
+    }
+
+    throw notOnLoan(object);
+  }
+
+  /**
+   * Takes an idle object, or creates one. Must be called while holding a permit. If the pool is
+   * full and no idle object is found, one is in the middle of being returned, so the scan is
+   * retried after parking for a period that grows up to about a millisecond.
+   * 
+   * @return T
+   */
+  private T take() {
+    int stripe = stripeFor(Thread.currentThread());
+    int misses = 0;
+
+    while (true) {
+      T object = stripes.getAndSet(stripe, null);
+      if (object == null)
+        object = idle.poll();
+
+      if (object == null) {
+        int count = created.get();
+        if (count < size) {
+          if (created.compareAndSet(count, count + 1))
+            return create();
+          continue;
+        }
+
+        /** The pool is full, so an idle object must reside in another stripe */
+        object = scanStripes();
+        if (object == null) {
+          LockSupport.parkNanos(MIN_PARK_NANOS << Math.min(misses++, MAX_PARK_SHIFT));
+          continue;
+        }
+      }
+
+      if (lifecycle == null || lifecycle.validate(key, object))
+        return object;
+      discard(object);
+    }
+  }
+
+  /**
+   * Takes an idle object from any stripe.
+   * 
+   * @return T or null if none are idle
+   */
+  private T scanStripes() {
+    for (int i = 0; i < stripes.length(); i++) {
+      T object = stripes.getAndSet(i, null);
+      if (object != null)
+        return object;
+    }
+
+    return null;
+  }
+
+  /**
+   * Creates and registers a pooled object, giving up its place if creation fails.
+   * 
+   * @return T
+   */
+  private T create() {
+    try {
+      T object = created(provider.get());
+      register(object);
+      return object;
+    } catch (RuntimeException e) {
+      created.decrementAndGet();
+      throw e;
+    }
+  }
+
+  /**
+   * Creates a transient object beyond the pool's size.
+   * 
+   * @return T
+   */
+  private T createOverflow() {
+    overflows.increment();
+    return created(provider.get());
+  }
+
+  /**
+   * Checks that a created object can be pooled.
+   * 
+   * @return {@code object}
+   * @throws ProvisionException if {@code object} is null
+   */
+  private T created(T object) {
+    if (object == null)
+      throw new ProvisionException("Provider for pooled " + key + " returned null");
+    return object;
+  }
+
+  /**
+   * Discards a pooled object, allowing another to be created in its place.
+   */
+  private void discard(T object) {
+    unregister(object);
+    created.decrementAndGet();
+    discarded.increment();
+  }
+
+  /**
+   * Adds {@code object} to the table of pooled objects.
+   * 
+   * @throws ProvisionException if {@code object} is already pooled
+   */
+  private void register(T object) {
+    synchronized (members) {
+      int free = -1;
+      int slot = indexFor(object);
+      for (int probes = 0; probes <= memberMask; probes++, slot = (slot + 1) & memberMask) {
+        Object member = members.get(slot);
+        if (member == object)
+          throw new ProvisionException("Provider for pooled " + key
+              + " returned an object that is already pooled");
+        if (member == REMOVED && free < 0)
+          free = slot;
+        else if (member == null) {
+          if (free < 0)
+            free = slot;
+          break;
+        }
+      }
+
+      onLoan.set(free, 0);
+      members.set(free, object);
+    }
+  }
+
+  /**
+   * Removes {@code object} from the table of pooled objects. A slot followed by an empty slot ends
+   * its probe sequence and is emptied, while other slots are marked removed so that later objects
+   * in their probe sequences are still found.
+   */
+  private void unregister(T object) {
+    synchronized (members) {
+      int slot = slotOf(object);
+      if (slot >= 0) {
+        onLoan.set(slot, 0);
+        members.set(slot, members.get((slot + 1) & memberMask) == null ? null : REMOVED);
+      }
+    }
+  }
+
+  /**
+   * Gets the table slot of the pooled object {@code object}.
+   * 
+   * @return int Slot, or -1 if {@code object} is not pooled
+   */
+  private int slotOf(Object object) {
+    int slot = indexFor(object);
+    for (int probes = 0; probes <= memberMask; probes++, slot = (slot + 1) & memberMask) {
+      Object member = members.get(slot);
+      if (member == object)
+        return slot;
+      if (member == null)
+        return -1;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Gets the home slot of {@code object} in the table of pooled objects.
+   */
+  private int indexFor(Object object) {
+    int hash = System.identityHashCode(object);
+    return (hash ^ (hash >>> 16)) & memberMask;
+  }
+
+  /**
+   * Creates the exception thrown when {@code object} is released without being on loan.
+   */
+  private IllegalArgumentException notOnLoan(Object object) {
+    return new IllegalArgumentException(object + " is not on loan from the pool for " + key);
+  }
+
+  /**
+   * Gets the stripe for {@code thread}.
+   */
+  private int stripeFor(Thread thread) {
+    long id = thread.getId();
+    return (int) (id ^ (id >>> 16)) & stripeMask;
+  }
+
+  /**
+   * A transient overflow object's loan.
+   */
+  private static final class Loan {
+    static final Loan UNTRACKED = new Loan(0, null);
+    final long borrowedAt;
+    final String thread;
+
+    Loan(long borrowedAt, String thread) {
+      this.borrowedAt = borrowedAt;
+      this.thread = thread;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package org.jodah.fabrique.internal;
+
+import org.jodah.fabrique.Primitives;
+import org.jodah.fabrique.Primitives.Primitive;
+
+/**
+ * A reusable {@link Primitive} lent out by an {@link InjectionContext} to carry a primitive
+ * construction argument without allocating. A carrier takes a new value once the provision it was
+ * lent for returns, so arguments that are retained hold a {@link #copy()} instead.
+ */
+@SuppressWarnings("serial")
+final class PrimitiveCarrier extends Primitive {
+  /**
+   * Creates a new PrimitiveCarrier object.
+   */
+  PrimitiveCarrier() {
+    super(0, Integer.TYPE);
+  }
+
+  /**
+   * Sets the carried value.
+   * 
+   * @param primitiveType Primitive type
+   * @param bits Primitive value, or the bits of a float or double value
+   * @return PrimitiveCarrier
+   */
+  PrimitiveCarrier carry(Class<?> primitiveType, long bits) {
+    setValue(bits, primitiveType);
+    return this;
+  }
+
+  /**
+   * Gets an immutable primitive equal to the carried value.
+   * 
+   * @return Object
+   */
+  Object copy() {
+    Class<?> type = getType();
+    if (type == Integer.TYPE)
+      return Primitives.of(intValue());
+    else if (type == Long.TYPE)
+      return Primitives.of(longValue());
+    else if (type == Double.TYPE)
+      return Primitives.of(doubleValue());
+    else if (type == Float.TYPE)
+      return Primitives.of(floatValue());
+    else if (type == Boolean.TYPE)
+      return Primitives.of(longValue() != 0);
+    else if (type == Character.TYPE)
+      return Primitives.of((char) longValue());
+    else if (type == Byte.TYPE)
+      return Primitives.of((byte) longValue());
+    return Primitives.of((short) longValue());
+  }
+}
@@ -31,6 +31,13 @@ class ProviderFactoryAdapter<T> implements Provider<T> {
    * {@inheritDoc}
    */
   public T get() {
-    return internalFactory.get(new InjectionContext(), constructionInjector, args);
+    InjectionContext context = InjectionContext.current();
+    int frame = context.enter();
+
+    try {
+      return internalFactory.get(context, constructionInjector, args);
+    } finally {
+      context.exit(frame);
+    }
   }
 }
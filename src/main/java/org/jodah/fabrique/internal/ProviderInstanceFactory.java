@@ -40,6 +40,13 @@ public class ProviderInstanceFactory<T> extends ConstructionFactory<T> {
    */
   @Override
   void preInject() {
-    injectMembers(new InjectionContext(), providerInstance);
+    InjectionContext context = InjectionContext.current();
+    int frame = context.enter();
+
+    try {
+      injectMembers(context, providerInstance);
+    } finally {
+      context.exit(frame);
+    }
   }
 }
@@ -4,7 +4,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
 import org.jodah.fabrique.Key;
-import org.jodah.fabrique.Primitives;
 import org.jodah.fabrique.Provider;
 import org.jodah.fabrique.ProvisionException;
 
@@ -16,6 +15,11 @@ import org.jodah.fabrique.ProvisionException;
 public class ProviderMethodInjector<T> extends AbstractDependencyInjector implements
     ConstructionInjector<T> {
   private final Method providerMethod;
+  private final Generational<Invokers.MethodInvoker> invoker = new Generational<Invokers.MethodInvoker>() {
+    protected Invokers.MethodInvoker compute() {
+      return Invokers.invokerFor(providerMethod);
+    }
+  };
 
   /**
    * Creates a new ProviderMethodInjector object.
@@ -37,12 +41,9 @@ public class ProviderMethodInjector<T> extends AbstractDependencyInjector implem
    */
   @SuppressWarnings("unchecked")
   public T construct(InjectionContext context, Provider<T> provider, Object[] args) {
-    Object[] constructionArgs = args;
-
     try {
-      constructionArgs = constructionArgs == null ? injectDependencies(context) : Primitives
-          .convertPrimitives(args);
-      return (T) providerMethod.invoke(provider, constructionArgs);
+      Object[] constructionArgs = args == null ? injectDependencies(context) : args;
+      return (T) invoker.get().invoke(provider, constructionArgs);
     } catch (Exception e) {
       throw new ProvisionException("Provider 'get' failed for " + providerMethod, e);
     }
@@ -0,0 +1,240 @@
+package org.jodah.fabrique.internal;
+
+import org.jodah.fabrique.Binding;
+import org.jodah.fabrique.ConfigurationException;
+import org.jodah.fabrique.Key;
+import org.jodah.fabrique.ObjectFactory;
+import org.jodah.fabrique.ProvisionException;
+import org.jodah.fabrique.ProvisionHandle;
+
+/**
+ * Provision handle implementation. Resolves the binding for its key, along with the construction
+ * injector for its argument types, once per binding generation.
+ * 
+ * @param <T> Provided type
+ */
+public class ProvisionHandleImpl<T> implements ProvisionHandle<T> {
+  private final Key<T> key;
+  /** Argument types, or null if construction is dispatched on the arguments given */
+  private final Class<?>[] argTypes;
+  private final Generational<Resolution<T>> resolution = new Generational<Resolution<T>>() {
+    protected Resolution<T> compute() {
+      return resolve();
+    }
+  };
+
+  /**
+   * The resolved binding, along with the factory and construction injector to provide unscoped
+   * instances with.
+   */
+  private static final class Resolution<T> {
+    final Binding<T> binding;
+    final InternalFactory<T> factory;
+    final ConstructionInjector<T> injector;
+
+    Resolution(Binding<T> binding, InternalFactory<T> factory, ConstructionInjector<T> injector) {
+      this.binding = binding;
+      this.factory = factory;
+      this.injector = injector;
+    }
+  }
+
+  /**
+   * Creates a new ProvisionHandleImpl object.
+   * 
+   * @param key Key of binding to provide instances for
+   * @param argTypes Construction argument types
+   * @throws ConfigurationException if no binding exists for {@code key}, or if no construction
+   *           method matches {@code argTypes}
+   */
+  public ProvisionHandleImpl(Key<T> key, Class<?>[] argTypes) {
+    this.key = key;
+    this.argTypes = argTypes.length == 0 ? null : argTypes.clone();
+    resolution.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T get() {
+    checkArity(0);
+    return provide(InjectionContext.current(), null, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T get(Object arg) {
+    checkArity(1);
+    InjectionContext context = InjectionContext.current();
+    return provide(context, context.arguments(arg), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T get(Object arg1, Object arg2) {
+    checkArity(2);
+    InjectionContext context = InjectionContext.current();
+    return provide(context, context.arguments(arg1, arg2), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T get(Object arg1, Object arg2, Object arg3) {
+    checkArity(3);
+    InjectionContext context = InjectionContext.current();
+    return provide(context, context.arguments(arg1, arg2, arg3), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T get(Object... args) {
+    if (args == null)
+      return get((Object) null);
+    checkArity(args.length);
+    return provide(InjectionContext.current(), args, false);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T getInt(int arg) {
+    checkArity(1);
+    InjectionContext context = InjectionContext.current();
+    return provide(context, context.primitiveArguments(Integer.TYPE, arg), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T getInt(int arg1, int arg2) {
+    checkArity(2);
+    InjectionContext context = InjectionContext.current();
+    return provide(context, context.primitiveArguments(Integer.TYPE, arg1, arg2), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T getLong(long arg) {
+    checkArity(1);
+    InjectionContext context = InjectionContext.current();
+    return provide(context, context.primitiveArguments(Long.TYPE, arg), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T getLong(long arg1, long arg2) {
+    checkArity(2);
+    InjectionContext context = InjectionContext.current();
+    return provide(context, context.primitiveArguments(Long.TYPE, arg1, arg2), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T getDouble(double arg) {
+    checkArity(1);
+    InjectionContext context = InjectionContext.current();
+    return provide(context,
+        context.primitiveArguments(Double.TYPE, Double.doubleToLongBits(arg)), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public T getDouble(double arg1, double arg2) {
+    checkArity(2);
+    InjectionContext context = InjectionContext.current();
+    return provide(context, context.primitiveArguments(Double.TYPE, Double.doubleToLongBits(arg1),
+        Double.doubleToLongBits(arg2)), true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public Key<T> getKey() {
+    return key;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "ProvisionHandle for " + key;
+  }
+
+  /**
+   * Ensures that the handle accepts {@code arity} arguments.
+   * 
+   * @param arity Number of arguments
+   * @throws IllegalArgumentException if the handle was created for a different number of arguments
+   */
+  private void checkArity(int arity) {
+    if (argTypes != null && argTypes.length != arity)
+      throw new IllegalArgumentException(key + " handle requires " + argTypes.length
+          + " arguments but was given " + arity);
+  }
+
+  /**
+   * Provides an instance for {@code args}, releasing them if they were borrowed from
+   * {@code context}.
+   * 
+   * @param context Injection context
+   * @param args Construction arguments
+   * @param borrowed Whether {@code args} were borrowed from {@code context}, rather than given by
+   *          the caller
+   * @return T
+   */
+  private T provide(InjectionContext context, Object[] args, boolean borrowed) {
+    Resolution<T> resolved = resolution.get();
+    int frame = context.enter();
+
+    try {
+      if (resolved.factory == null)
+        return resolved.binding.get(context, args);
+      if (resolved.injector != null && (argTypes != null || args == null))
+        return resolved.factory.get(context, resolved.injector, args);
+      return resolved.factory.get(context, args);
+    } catch (Exception e) {
+      throw new ProvisionException(key, e);
+    } finally {
+      if (borrowed)
+        context.release(args);
+      context.exit(frame);
+    }
+  }
+
+  /**
+   * Resolves the binding and construction injector for the handle. Scoped bindings are provided
+   * through their binding so that their scope is applied. Without argument types, the default
+   * construction method is resolved for calls without arguments, and calls with arguments are
+   * dispatched on through the binding's dispatch cache.
+   * 
+   * @return Resolution<T>
+   * @throws ConfigurationException if no binding exists for {@code key}, or if no construction
+   *           method matches {@code argTypes}
+   */
+  private Resolution<T> resolve() {
+    Binding<T> binding = ObjectFactory.getBinding(key);
+    if (!(binding instanceof BindingImpl))
+      return new Resolution<T>(binding, null, null);
+
+    BindingImpl<T> bindingImpl = (BindingImpl<T>) binding;
+    InternalFactory<T> factory = bindingImpl.getInternalFactory();
+    ConstructionInjector<T> injector = null;
+
+    if (factory instanceof ConstructionFactory) {
+      ConstructionFactory<T> constructionFactory = (ConstructionFactory<T>) factory;
+      injector = argTypes == null ? constructionFactory.constructionInjectorFor(null)
+          : constructionFactory.constructionInjectorForParams(argTypes);
+    }
+
+    return new Resolution<T>(binding, bindingImpl.getScope() == null ? factory : null, injector);
+  }
+}
@@ -0,0 +1,118 @@
+package org.jodah.fabrique.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jodah.fabrique.Binding;
+import org.jodah.fabrique.Key;
+import org.jodah.fabrique.ObjectFactory;
+
+/**
+ * An immutable provisioning plan for a dependency injector. Holds direct references to the bindings
+ * that fulfill each of the injector's dependencies so that provisioning can proceed without
+ * per-dependency binding lookups.
+ * 
+ * <p>
+ * Plans are stamped with the binding generation they were resolved against. Loading modules starts
+ * a new generation, causing stale plans to be resolved again on their next use.
+ */
+public final class ProvisionPlan {
+  private static final AtomicInteger currentGeneration = new AtomicInteger();
+  private final int generation;
+  private final Binding<?>[] bindings;
+
+  /**
+   * Creates a new ProvisionPlan object.
+   * 
+   * @param generation Binding generation
+   * @param bindings Resolved dependency bindings
+   */
+  private ProvisionPlan(int generation, Binding<?>[] bindings) {
+    this.generation = generation;
+    this.bindings = bindings;
+  }
+
+  /**
+   * Gets the current binding generation.
+   * 
+   * @return int
+   */
+  static int currentGeneration() {
+    return currentGeneration.get();
+  }
+
+  /**
+   * Invalidates all existing plans, forcing them to be resolved again on their next use.
+   */
+  public static void invalidateAll() {
+    currentGeneration.incrementAndGet();
+  }
+
+  /**
+   * Resolves a plan for {@code dependencies}.
+   * 
+   * @param dependencies Dependencies to resolve bindings for
+   * @return ProvisionPlan
+   * @throws ConfigurationException if a binding cannot be found for any of {@code dependencies}
+   */
+  static ProvisionPlan resolve(Key<?>[] dependencies) {
+    int generation = currentGeneration.get();
+    Binding<?>[] bindings = new Binding<?>[dependencies.length];
+
+    for (int i = 0; i < dependencies.length; i++)
+      bindings[i] = ObjectFactory.getBinding(dependencies[i]);
+
+    return new ProvisionPlan(generation, bindings);
+  }
+
+  /**
+   * Gets the resolved dependency bindings. The returned array should not be modified.
+   * 
+   * @return Binding<?>[]
+   */
+  Binding<?>[] getBindings() {
+    return bindings;
+  }
+
+  /**
+   * Whether the plan was resolved against the current binding generation.
+   * 
+   * @return boolean
+   */
+  boolean isCurrent() {
+    return generation == currentGeneration.get();
+  }
+
+  /**
+   * Provides an instance for the resolved dependency at {@code index}.
+   * 
+   * @param context Injection context
+   * @param index Dependency index
+   * @return Object
+   */
+  Object provide(InjectionContext context, int index) {
+    return bindings[index].get(context, null);
+  }
+
+  /**
+   * Provides an instance for each resolved dependency.
+   * 
+   * @param context Injection context
+   * @return Object[]
+   */
+  Object[] provide(InjectionContext context) {
+    return provide(context, new Object[bindings.length]);
+  }
+
+  /**
+   * Provides an instance for each resolved dependency into {@code result}.
+   * 
+   * @param context Injection context
+   * @param result Array with an element per dependency
+   * @return Object[] {@code result}
+   */
+  Object[] provide(InjectionContext context, Object[] result) {
+    for (int i = 0; i < bindings.length; i++)
+      result[i] = bindings[i].get(context, null);
+    return result;
+  }
+}
@@ -1,6 +1,7 @@
 package org.jodah.fabrique.internal;
 
 import org.jodah.fabrique.Provider;
+import org.jodah.fabrique.Providers;
 
 /**
  * Produces references to a target instance.
@@ -9,6 +10,7 @@ import org.jodah.fabrique.Provider;
  */
 public class TargetInstanceFactory<T> extends InternalFactory<T> {
   private final T targetInstance;
+  private final Provider<T> provider;
 
   /**
    * Creates a new TargetInstanceFactory object.
@@ -18,6 +20,7 @@ public class TargetInstanceFactory<T> extends InternalFactory<T> {
   TargetInstanceFactory(T targetInstance) {
     super(targetInstance.getClass(), FactoryType.Target);
     this.targetInstance = targetInstance;
+    provider = Providers.of(targetInstance);
   }
 
   /**
@@ -40,17 +43,20 @@ public class TargetInstanceFactory<T> extends InternalFactory<T> {
    */
   @Override
   Provider<T> getProvider(Object[] args) {
-    return new Provider<T>() {
-      public T get() {
-        return targetInstance;
-      }
-    };
+    return provider;
   }
 
   /**
    * {@inheritDoc}
    */
   void preInject() {
-    injectMembers(new InjectionContext(), targetInstance);
+    InjectionContext context = InjectionContext.current();
+    int frame = context.enter();
+
+    try {
+      injectMembers(context, targetInstance);
+    } finally {
+      context.exit(frame);
+    }
   }
 }
@@ -93,6 +93,18 @@ public class BindingParamsTest {
     }
   }
 
+  /** Provisions a nested instance with explicit arguments from within its constructor */
+  public static class NestingTest {
+    final String string;
+    final IntelligentTest nested;
+
+    /** Creates a new NestingTest object. */
+    public NestingTest(String pString) {
+      string = pString;
+      nested = ObjectFactory.getInstance(IntelligentTest.class, "nested");
+    }
+  }
+
   /** Object provider */
   public static class ObjectProvider implements Provider<Object> {
     /**
@@ -382,6 +394,62 @@ public class BindingParamsTest {
     assertEquals(_test2.string2, _testStr);
   }
 
+  /**
+   * Tests that repeated calls with varying argument signatures continue to dispatch to the matching
+   * constructor, and that null arguments remain ambiguous once signatures have been cached.
+   */
+  @Test
+  public void testIntelligentTargetParamsRepeated() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(IntelligentTest.class);
+      }
+    });
+
+    for (int i = 0; i < 3; i++) {
+      IntelligentTest _test1 = ObjectFactory.getInstance(IntelligentTest.class, "a", "b");
+      assertEquals(_test1.string1, "a");
+      assertEquals(_test1.string2, "b");
+
+      IntelligentTest _test2 = ObjectFactory.getInstance(IntelligentTest.class, "a", 5);
+      assertEquals(_test2.string1, "a");
+      assertEquals(_test2.string2, "5");
+
+      IntelligentTest _test3 = ObjectFactory.getInstance(IntelligentTest.class, 7);
+      assertEquals(_test3.string1, "7");
+    }
+
+    try {
+      ObjectFactory.getInstance(IntelligentTest.class, "test", null);
+      fail();
+    } catch (ProvisionException expected) {
+    }
+  }
+
+  /**
+   * Tests that explicit arguments are passed correctly when provisioning with explicit arguments is
+   * nested, and when the provisioned binding is named.
+   */
+  @Test
+  public void testNestedAndNamedParams() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(IntelligentTest.class);
+        bind(NestingTest.class).forParams(String.class);
+        bind(IntelligentTest.class).as("named");
+      }
+    });
+
+    NestingTest _test = ObjectFactory.getInstance(NestingTest.class, "outer");
+    assertEquals(_test.string, "outer");
+    assertEquals(_test.nested.string1, "nested");
+
+    IntelligentTest _named = ObjectFactory.getNamedInstance(IntelligentTest.class, "named", "a",
+        "b");
+    assertEquals(_named.string1, "a");
+    assertEquals(_named.string2, "b");
+  }
+
   /**
    * Tests that binding to a provider for a method that does not exist throws an exception.
    */
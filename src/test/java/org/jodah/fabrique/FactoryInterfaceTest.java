@@ -0,0 +1,163 @@
+package org.jodah.fabrique;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests factory interface bindings.
+ */
+public class FactoryInterfaceTest {
+  /** Tests factory construction */
+  public interface Order {
+    long getId();
+
+    String getSku();
+  }
+
+  /** Tests factory construction */
+  public static class Dependency {
+  }
+
+  /** Tests factory construction */
+  public static class OrderImpl implements Order {
+    final long id;
+    final String sku;
+    String customer;
+    String warehouse;
+    @Inject
+    Dependency dependency;
+
+    /** Creates a new OrderImpl object. */
+    @Inject
+    public OrderImpl() {
+      this(0, null);
+    }
+
+    /** Creates a new OrderImpl object. */
+    public OrderImpl(long id, String sku) {
+      this.id = id;
+      this.sku = sku;
+    }
+
+    /** Creates a new OrderImpl object. */
+    public OrderImpl(long id, String sku, String customer, String warehouse) {
+      this(id, sku);
+      this.customer = customer;
+      this.warehouse = warehouse;
+    }
+
+    public long getId() {
+      return id;
+    }
+
+    public String getSku() {
+      return sku;
+    }
+  }
+
+  /** Tests factory construction */
+  public interface OrderFactory {
+    Order create(long id, String sku);
+
+    Order create();
+
+    Order create(long id, String sku, String customer, String warehouse);
+
+    @Named("named")
+    Order createNamed(long id, String sku);
+  }
+
+  /** Tests invalid factory methods */
+  public interface InvalidFactory {
+    void create(String sku);
+  }
+
+  /** Tests unresolvable factory methods */
+  public interface UnresolvableFactory {
+    OrderImpl create(String sku);
+  }
+
+  /**
+   * Performs setup.
+   */
+  @Before
+  public void setup() {
+    TestUtil.resetFactoryBindings();
+  }
+
+  /**
+   * Tests that a factory interface constructs instances with its arguments and injects their
+   * members.
+   */
+  @Test
+  public void testFactory() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Order.class).to(OrderImpl.class).forOptionalParams(long.class, String.class)
+            .forOptionalParams(long.class, String.class, String.class, String.class);
+        bind(Order.class).as("named").to(OrderImpl.class)
+            .forOptionalParams(long.class, String.class);
+        bind(OrderFactory.class).toFactory();
+      }
+    });
+
+    OrderFactory factory = ObjectFactory.getInstance(OrderFactory.class);
+    assertSame(factory, ObjectFactory.getInstance(OrderFactory.class));
+
+    Order order = factory.create(5, "sku");
+    assertEquals(5, order.getId());
+    assertEquals("sku", order.getSku());
+    assertNotSame(null, ((OrderImpl) order).dependency);
+    assertNotSame(order, factory.create(5, "sku"));
+
+    assertEquals(0, factory.create().getId());
+
+    OrderImpl fullOrder = (OrderImpl) factory.create(6, "sku", "customer", "warehouse");
+    assertEquals(6, fullOrder.getId());
+    assertEquals("customer", fullOrder.customer);
+    assertEquals("warehouse", fullOrder.warehouse);
+    assertEquals(6, factory.create(6, "sku", "customer", "warehouse").getId());
+    assertEquals(7, factory.createNamed(7, "named").getId());
+    assertEquals(factory.toString(), factory.toString());
+  }
+
+  /**
+   * Tests that binding a non-interface type to a factory fails.
+   */
+  @Test(expected = ConfigurationException.class)
+  public void testFactoryForClass() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(OrderImpl.class).toFactory();
+      }
+    });
+  }
+
+  /**
+   * Tests that binding a factory interface with a void method fails.
+   */
+  @Test(expected = ConfigurationException.class)
+  public void testInvalidFactory() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(InvalidFactory.class).toFactory();
+      }
+    });
+  }
+
+  /**
+   * Tests that a factory method without a matching constructor fails when the binding is loaded.
+   */
+  @Test(expected = ConfigurationException.class)
+  public void testUnresolvableFactory() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(UnresolvableFactory.class).toFactory();
+      }
+    });
+  }
+}
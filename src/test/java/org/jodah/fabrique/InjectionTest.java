@@ -3,7 +3,9 @@ package org.jodah.fabrique;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -92,6 +94,47 @@ public class InjectionTest {
     String testString2;
   }
 
+  /** Tests circular constructor dependencies */
+  static class CircularConstructorA {
+    /** Creates a new CircularConstructorA object. */
+    @Inject
+    CircularConstructorA(CircularConstructorB pB) {
+    }
+  }
+
+  /** Tests circular constructor dependencies */
+  static class CircularConstructorB {
+    /** Creates a new CircularConstructorB object. */
+    @Inject
+    CircularConstructorB(CircularConstructorA pA) {
+    }
+  }
+
+  /** Fails construction on its first attempt only */
+  static class FlakyTest {
+    static int attempts;
+
+    /** Creates a new FlakyTest object. */
+    FlakyTest() {
+      if (attempts++ == 0)
+        throw new IllegalStateException();
+    }
+  }
+
+  /** Tests recovery from a failed construction */
+  static class FlakyHolderTest {
+    @Inject(optional = true)
+    FlakyTest optionalFlaky;
+    @Inject
+    FlakyTest flaky;
+  }
+
+  /** Tests provisioning plan resolution */
+  public static class PlanTest {
+    @Inject
+    ArrayList<?> list;
+  }
+
   /** Tests private injection */
   public static class PrivateConstructorTest {
     int testInt;
@@ -135,6 +178,26 @@ public class InjectionTest {
     }
   }
 
+  /** Tests method injection with a dependency that is itself method injected */
+  static class NestedMethodTest {
+    MethodTest methodTest;
+    String testString;
+    List<?> wide;
+
+    /** Setter with the same arity as its dependency's setter */
+    @Inject
+    public void set(MethodTest pMethodTest, String pTestString) {
+      methodTest = pMethodTest;
+      testString = pTestString;
+    }
+
+    /** Setter with more arguments than the injection context keeps arrays for */
+    @Inject
+    public void setWide(String p1, String p2, String p3, List<?> p4) {
+      wide = p4;
+    }
+  }
+
   /** Tests provider injection */
   static class StringProvider implements Provider<String> {
     Integer testInt;
@@ -178,6 +241,36 @@ public class InjectionTest {
     TestUtil.resetFactoryBindings();
   }
 
+  /**
+   * Tests that circular constructor dependencies are detected, and that detection does not affect
+   * later provisioning.
+   */
+  @Test
+  public void testCircularConstructorDependency() {
+    for (int i = 0; i < 2; i++) {
+      try {
+        ObjectFactory.getInstance(CircularConstructorA.class);
+        fail();
+      } catch (ProvisionException expected) {
+      }
+    }
+
+    FlakyTest.attempts = 1;
+    assertNotNull(ObjectFactory.getInstance(FlakyHolderTest.class).optionalFlaky);
+  }
+
+  /**
+   * Tests that a failed construction does not cause later constructions of the same type to be
+   * reported as circular.
+   */
+  @Test
+  public void testConstructionAfterFailure() {
+    FlakyTest.attempts = 0;
+    FlakyHolderTest _test = ObjectFactory.getInstance(FlakyHolderTest.class);
+    assertNull(_test.optionalFlaky);
+    assertNotNull(_test.flaky);
+  }
+
   /**
    * Tests injection for a class where the default constructor is private.
    */
@@ -255,6 +348,31 @@ public class InjectionTest {
     assertNull(_test.testInt);
   }
 
+  /**
+   * Tests that injected methods receive their own arguments when their dependencies are method
+   * injected with the same number of arguments, and that methods with many arguments are injected.
+   */
+  @Test
+  public void testNestedMethodInjection() {
+    final String _testString = "test";
+
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(String.class).toInstance(_testString);
+        bind(List.class).to(ArrayList.class);
+      }
+    });
+
+    for (int i = 0; i < 2; i++) {
+      NestedMethodTest _test = ObjectFactory.getInstance(NestedMethodTest.class);
+      assertNotNull(_test.methodTest);
+      assertEquals(_testString, _test.testString);
+      assertEquals(_testString, _test.methodTest.testString);
+      assertNotNull(_test.methodTest.testList);
+      assertNotNull(_test.wide);
+    }
+  }
+
   /**
    * Tests that provider injection works as expected.
    */
@@ -419,6 +537,23 @@ public class InjectionTest {
     assertNull(_test.testInt);
   }
 
+  /**
+   * Tests that dependencies resolved for an injector are resolved again when modules are loaded.
+   */
+  @Test
+  public void testTargetFieldInjectionAfterModuleLoad() {
+    assertNotNull(ObjectFactory.getInstance(PlanTest.class).list);
+
+    final ArrayList<?> _list = new ArrayList<Object>();
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(ArrayList.class).toInstance(_list);
+      }
+    });
+
+    assertSame(_list, ObjectFactory.getInstance(PlanTest.class).list);
+  }
+
   /**
    * Tests that field injection works as expected for a target instance.
    */
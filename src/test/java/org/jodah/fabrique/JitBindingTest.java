@@ -1,9 +1,17 @@
 package org.jodah.fabrique;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 
 import org.jodah.fabrique.ConfigurationException;
 import org.jodah.fabrique.Inject;
@@ -26,6 +34,10 @@ public class JitBindingTest {
     CircularClassA a;
   }
 
+  /** */
+  static class JitClass {
+  }
+
   /**
    * Tests that retrieving a JIT abstract class is not allowed.
    */
@@ -42,6 +54,68 @@ public class JitBindingTest {
     ObjectFactory.getInstance(Map.class);
   }
 
+  /**
+   * Tests that concurrent first requests for a JIT binding share a single binding.
+   */
+  @Test
+  public void testConcurrentJitBinding() throws Exception {
+    final int _threadCount = 8;
+    final CountDownLatch _start = new CountDownLatch(1);
+    final Set<Binding<?>> _bindings = Collections.synchronizedSet(new HashSet<Binding<?>>());
+    Thread[] _threads = new Thread[_threadCount];
+
+    for (int i = 0; i < _threadCount; i++) {
+      _threads[i] = new Thread() {
+        public void run() {
+          try {
+            _start.await();
+            _bindings.add(ObjectFactory.getBinding(JitClass.class));
+          } catch (InterruptedException e) {
+          }
+        }
+      };
+      _threads[i].start();
+    }
+
+    _start.countDown();
+    for (Thread _thread : _threads)
+      _thread.join();
+
+    assertEquals(1, _bindings.size());
+    assertSame(_bindings.iterator().next(), ObjectFactory.getBinding(JitClass.class));
+  }
+
+  /**
+   * Tests that finding a JIT binding for an unbindable type returns null, repeatedly.
+   */
+  @Test
+  public void testFindBindingForInterface() {
+    assertNull(ObjectFactory.findBinding(Map.class));
+    assertNull(ObjectFactory.findBinding(Key.get(Map.class)));
+  }
+
+  /**
+   * Tests that finding a JIT binding for a bindable type returns the JIT binding.
+   */
+  @Test
+  public void testFindBinding() {
+    assertSame(ObjectFactory.getBinding(JitClass.class), ObjectFactory.findBinding(JitClass.class));
+  }
+
+  /**
+   * Tests that a failed JIT binding continues to fail with a ConfigurationException.
+   */
+  @Test
+  public void testFailedJitBindingIsRemembered() {
+    for (int i = 0; i < 2; i++) {
+      try {
+        ObjectFactory.getBinding(AbstractList.class);
+        fail();
+      } catch (ConfigurationException expected) {
+      }
+    }
+  }
+
   /**
    * Tests that circular dependencies are handled.
    */
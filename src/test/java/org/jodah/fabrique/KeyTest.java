@@ -2,6 +2,7 @@ package org.jodah.fabrique;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,15 @@ public class KeyTest {
     assertEquals(_msg, _list1, _list2);
   }
 
+  /**
+   * Tests that unnamed keys are canonical.
+   */
+  @Test
+  public void testUnnamedKeyIsCanonical() {
+    assertSame(Key.get(List.class), Key.get(List.class));
+    assertSame(Key.get(List.class), Key.get(List.class, (Object) null));
+  }
+
   /**
    * Verifies that a null type cannot be used to produce a key.
    */
@@ -1,5 +1,7 @@
 package org.jodah.fabrique;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
@@ -14,6 +16,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -34,6 +37,17 @@ public class ObjectFactoryTest {
     }
   }
 
+  /** Holds an injected list */
+  public static class ListHolder {
+    final List list;
+
+    /** Creates a new ListHolder object. */
+    @Inject
+    public ListHolder(List list) {
+      this.list = list;
+    }
+  }
+
   /** List provider */
   public static class ListProvider implements Provider<List> {
     /**
@@ -257,6 +271,100 @@ public class ObjectFactoryTest {
     ObjectFactory.getProvider(Key.get(List.class));
   }
 
+  /**
+   * Verifies that modules can be loaded concurrently while instances are being provided.
+   */
+  @Test
+  public void testLoadModulesConcurrently() throws Throwable {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(List.class).to(ArrayList.class);
+      }
+    });
+
+    final int _threadCount = 8;
+    final AtomicReference<Throwable> _failure = new AtomicReference<Throwable>();
+    Thread[] _threads = new Thread[_threadCount];
+
+    for (int i = 0; i < _threadCount; i++) {
+      final String _name = String.valueOf(i);
+      _threads[i] = new Thread() {
+        public void run() {
+          try {
+            for (int j = 0; j < 50; j++) {
+              final String _bindingName = _name + "-" + j;
+              ObjectFactory.loadModules(new AbstractModule() {
+                protected void configure() {
+                  bind(List.class).as(_bindingName).to(Vector.class);
+                }
+              });
+
+              assertTrue(ObjectFactory.getInstance(List.class) instanceof ArrayList);
+              assertTrue(ObjectFactory.getNamedInstance(List.class, _bindingName) instanceof Vector);
+            }
+          } catch (Throwable t) {
+            _failure.set(t);
+          }
+        }
+      };
+      _threads[i].start();
+    }
+
+    for (Thread _thread : _threads)
+      _thread.join();
+    if (_failure.get() != null)
+      throw _failure.get();
+
+    assertEquals(_threadCount * 50 + 1, ObjectFactory.getBindings().size());
+  }
+
+  /**
+   * Verifies that a removed binding is no longer visible.
+   */
+  @Test
+  public void testRemoveBinding() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(List.class).to(ArrayList.class);
+      }
+    });
+
+    TestUtil.getBindingLoader().removeBinding(ObjectFactory.getBinding(List.class));
+    assertFalse(ObjectFactory.getBindings().containsKey(Key.get(List.class)));
+    assertTrue(ObjectFactory.findBindingsByType(List.class).isEmpty());
+  }
+
+  /**
+   * Verifies that handles and provisioning plans resolved before a binding is removed no longer
+   * provide with it.
+   */
+  @Test
+  public void testRemoveBindingAfterResolution() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(List.class).to(ArrayList.class);
+      }
+    });
+
+    ProvisionHandle<List> _handle = ObjectFactory.handle(List.class);
+    assertTrue(_handle.get() instanceof ArrayList);
+    assertTrue(ObjectFactory.getInstance(ListHolder.class).list instanceof ArrayList);
+
+    TestUtil.getBindingLoader().removeBinding(ObjectFactory.getBinding(List.class));
+
+    try {
+      _handle.get();
+      fail();
+    } catch (ConfigurationException expected) {
+    }
+
+    try {
+      ObjectFactory.getInstance(ListHolder.class);
+      fail();
+    } catch (ProvisionException expected) {
+    }
+  }
+
   /**
    * Verifies that {@link ObjectFactory#loadModules(Module...)} does not allow nulls.
    */
@@ -1,11 +1,16 @@
 package org.jodah.fabrique;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import org.jodah.fabrique.AbstractModule;
 import org.jodah.fabrique.Inject;
 import org.jodah.fabrique.ObjectFactory;
 import org.jodah.fabrique.Primitives;
+import org.jodah.fabrique.Primitives.Primitive;
+import org.jodah.fabrique.Scopes.FlyweightScope;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -50,6 +55,43 @@ public class PrimitivesTest {
     }
   }
 
+  /** Tests explicit primitive construction arguments */
+  static class Point {
+    final int x;
+    final int y;
+    long l;
+    double d;
+    char c;
+    boolean b;
+
+    /** Creates a new Point object. */
+    Point(int pX, int pY) {
+      x = pX;
+      y = pY;
+    }
+
+    /** Creates a new Point object. */
+    Point(long pL) {
+      this(0, 0);
+      l = pL;
+    }
+
+    /** Creates a new Point object. */
+    Point(double pD, double pE) {
+      this(0, 0);
+      d = pD + pE;
+    }
+
+    /** Creates a new Point object. */
+    Point(long pL, double pD, char pC, boolean pB) {
+      this(0, 0);
+      l = pL;
+      d = pD;
+      c = pC;
+      b = pB;
+    }
+  }
+
   /**
    * Performs setup.
    */
@@ -97,4 +139,133 @@ public class PrimitivesTest {
     _test = ObjectFactory.getInstance(TestClass.class, _overrideInteger);
     assertEquals(_overrideInteger, _test.testConstructorInteger);
   }
+
+  /**
+   * Tests that explicit primitive arguments are passed to primitive constructor parameters with
+   * each provision engine.
+   */
+  @Test
+  public void testPrimitiveArgs() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Point.class).forParams(int.class, int.class)
+            .forOptionalParams(long.class, double.class, char.class, boolean.class);
+      }
+    });
+
+    try {
+      for (ProvisionEngine engine : ProvisionEngine.values()) {
+        ObjectFactory.setProvisionEngine(engine);
+
+        Point _point = ObjectFactory.getInstance(Point.class, Primitives.of(3),
+            Primitives.of(1000));
+        assertEquals(3, _point.x);
+        assertEquals(1000, _point.y);
+
+        _point = ObjectFactory.getInstance(Point.class, Primitives.of(Long.MAX_VALUE),
+            Primitives.of(-1.5d), Primitives.of('z'), Primitives.of(true));
+        assertEquals(Long.MAX_VALUE, _point.l);
+        assertEquals(-1.5d, _point.d, 0);
+        assertEquals('z', _point.c);
+        assertEquals(true, _point.b);
+      }
+    } finally {
+      ObjectFactory.setProvisionEngine(ProvisionEngine.GENERATED);
+    }
+  }
+
+  /**
+   * Tests that primitives for small values are cached and that primitives expose their values.
+   */
+  @Test
+  public void testPrimitiveValues() {
+    assertSame(Primitives.of(5), Primitives.of(5));
+    assertSame(Primitives.of(true), Primitives.of(true));
+    assertEquals(Integer.valueOf(-7), ((Primitive) Primitives.of(-7)).getPrimitive());
+    assertEquals(Integer.valueOf(100000), ((Primitive) Primitives.of(100000)).getPrimitive());
+    assertEquals(Float.valueOf(-2.25f), ((Primitive) Primitives.of(-2.25f)).getPrimitive());
+    assertEquals(Double.valueOf(0.1d), ((Primitive) Primitives.of(0.1d)).getPrimitive());
+    assertEquals(Character.valueOf('c'), ((Primitive) Primitives.of('c')).getPrimitive());
+    assertEquals(Short.valueOf((short) 300),
+        ((Primitive) Primitives.of((short) 300)).getPrimitive());
+    assertEquals(-2, ((Primitive) Primitives.of(-2.25f)).intValue());
+    assertEquals(Long.MIN_VALUE, ((Primitive) Primitives.of(Long.MIN_VALUE)).longValue());
+  }
+
+  /**
+   * Tests that primitives are equal by type and value, consistently with their hash codes.
+   */
+  @Test
+  public void testPrimitiveEquality() {
+    Object _large = Primitives.of(500);
+    assertEquals(_large, _large);
+    assertEquals(Primitives.of(500), _large);
+    assertEquals(Primitives.of(500).hashCode(), _large.hashCode());
+    assertFalse(_large.equals(Primitives.of(501)));
+    assertFalse(_large.equals(Primitives.of(500L)));
+    assertFalse(_large.equals(Integer.valueOf(500)));
+    assertFalse(_large.equals(null));
+    assertEquals(Primitives.of(Double.NaN), Primitives.of(0.0d / 0.0d));
+    assertEquals(Primitives.of(Double.NaN).hashCode(), Primitives.of(0.0d / 0.0d).hashCode());
+    assertFalse(Primitives.of(0.0d).equals(Primitives.of(-0.0d)));
+    assertEquals(Primitives.of(1.5f), Primitives.of(1.5f));
+  }
+
+  /**
+   * Tests that handles pass primitive arguments to primitive constructor parameters with each
+   * provision engine.
+   */
+  @Test
+  public void testPrimitiveHandleArgs() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Point.class).forParams(int.class, int.class)
+            .forOptionalParams(new Class<?>[] { long.class }, new Class<?>[] { double.class,
+                double.class });
+      }
+    });
+
+    try {
+      for (ProvisionEngine engine : ProvisionEngine.values()) {
+        ObjectFactory.setProvisionEngine(engine);
+
+        ProvisionHandle<Point> _handle = ObjectFactory.handle(Point.class, int.class, int.class);
+        Point _point = _handle.getInt(3, 1000);
+        assertEquals(3, _point.x);
+        assertEquals(1000, _point.y);
+        assertEquals(-5, _handle.getInt(-5, 7).x);
+
+        ProvisionHandle<Point> _untyped = ObjectFactory.handle(Point.class);
+        assertEquals(Long.MAX_VALUE, _untyped.getLong(Long.MAX_VALUE).l);
+        assertEquals(2.75d, _untyped.getDouble(1.5d, 1.25d).d, 0);
+        assertEquals(40000, _untyped.getInt(40000, 1).x);
+      }
+    } finally {
+      ObjectFactory.setProvisionEngine(ProvisionEngine.GENERATED);
+    }
+  }
+
+  /**
+   * Tests that scopes keyed by primitive handle arguments are not affected by the reuse of the
+   * carriers the arguments were passed in.
+   */
+  @Test
+  public void testPrimitiveHandleArgsInScope() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Point.class).forParams(int.class, int.class).in(new FlyweightScope(8));
+      }
+    });
+
+    ProvisionHandle<Point> _handle = ObjectFactory.handle(Point.class, int.class, int.class);
+    Point _point = _handle.getInt(500, 600);
+    assertSame(_point, _handle.getInt(500, 600));
+    assertSame(_point, ObjectFactory.getInstance(Point.class, Primitives.of(500),
+        Primitives.of(600)));
+    Point _other = _handle.getInt(700, 800);
+    assertNotSame(_point, _other);
+    assertEquals(700, _other.x);
+    assertSame(_point, _handle.getInt(500, 600));
+    assertSame(_other, _handle.getInt(700, 800));
+  }
 }
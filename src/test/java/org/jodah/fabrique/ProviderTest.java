@@ -1,6 +1,8 @@
 package org.jodah.fabrique;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -59,6 +61,32 @@ public class ProviderTest {
     ObjectFactory.getProvider(Collection.class).get();
   }
 
+  /**
+   * Tests that repeated getProvider calls without arguments return the same provider until
+   * bindings change.
+   */
+  @Test
+  public void testProviderCached() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(String.class).toProvider(StringProvider.class);
+        bind(Collection.class).toInstance(new ArrayList<Object>());
+      }
+    });
+
+    Provider<String> _provider = ObjectFactory.getProvider(String.class);
+    assertSame(_provider, ObjectFactory.getProvider(String.class));
+    assertEquals("abc", _provider.get());
+    assertSame(ObjectFactory.getProvider(Collection.class),
+        ObjectFactory.getProvider(Collection.class));
+
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+      }
+    });
+    assertNotSame(_provider, ObjectFactory.getProvider(String.class));
+  }
+
   /**
    * Tests that the provider for some object works as expected.
    */
@@ -0,0 +1,175 @@
+package org.jodah.fabrique;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests provisioning with each {@link ProvisionEngine}.
+ */
+public class ProvisionEngineTest {
+  /** Tests constructor, field and method injection */
+  static class Target {
+    final String constructorString;
+    @Inject
+    String fieldString;
+    @Inject
+    private Integer privateFieldInt;
+    @Inject
+    int primitiveFieldInt;
+    String methodString;
+    Integer privateMethodInt;
+
+    /** Creates a new Target object. */
+    @Inject
+    Target(String pString) {
+      constructorString = pString;
+    }
+
+    /** Injected setter */
+    @Inject
+    void setString(String pString) {
+      methodString = pString;
+    }
+
+    /** Private injected setter */
+    @Inject
+    private void setInt(Integer pInt) {
+      privateMethodInt = pInt;
+    }
+  }
+
+  /** Tests injection through members that can be linked directly */
+  public static class PublicTarget {
+    public final String constructorString;
+    public String methodString;
+    public int methodInt;
+
+    /** Creates a new PublicTarget object. */
+    @Inject
+    public PublicTarget(String pString) {
+      constructorString = pString;
+    }
+
+    /** Injected setter */
+    @Inject
+    public void set(String pString, int pInt) {
+      methodString = pString;
+      methodInt = pInt;
+    }
+  }
+
+  /** Tests provider method injection */
+  static class StringProvider implements Provider<String> {
+    /**
+     * {@inheritDoc}
+     */
+    public String get() {
+      return "provided";
+    }
+
+    /** Provider get */
+    String get(String pValue, Integer pInt) {
+      return pValue + pInt;
+    }
+  }
+
+  /** Tests construction failures */
+  static class FailingTarget {
+    /** Creates a new FailingTarget object. */
+    FailingTarget() {
+      throw new IllegalStateException();
+    }
+  }
+
+  /**
+   * Performs setup.
+   */
+  @Before
+  public void setup() {
+    TestUtil.resetFactoryBindings();
+  }
+
+  /**
+   * Restores the default engine.
+   */
+  @After
+  public void tearDown() {
+    ObjectFactory.setProvisionEngine(ProvisionEngine.GENERATED);
+  }
+
+  /**
+   * Tests that injection works as expected with each engine.
+   */
+  @Test
+  public void testInjection() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(String.class).toInstance("test");
+        bind(Integer.class).toInstance(5);
+        bind(int.class).toInstance(7);
+      }
+    });
+
+    for (ProvisionEngine engine : ProvisionEngine.values()) {
+      ObjectFactory.setProvisionEngine(engine);
+      Target target = ObjectFactory.getInstance(Target.class);
+
+      assertEquals(engine.toString(), "test", target.constructorString);
+      assertEquals(engine.toString(), "test", target.fieldString);
+      assertEquals(engine.toString(), Integer.valueOf(5), target.privateFieldInt);
+      assertEquals(engine.toString(), 7, target.primitiveFieldInt);
+      assertEquals(engine.toString(), "test", target.methodString);
+      assertEquals(engine.toString(), Integer.valueOf(5), target.privateMethodInt);
+
+      PublicTarget publicTarget = ObjectFactory.getInstance(PublicTarget.class);
+      assertEquals(engine.toString(), "test", publicTarget.constructorString);
+      assertEquals(engine.toString(), "test", publicTarget.methodString);
+      assertEquals(engine.toString(), 7, publicTarget.methodInt);
+    }
+  }
+
+  /**
+   * Tests that provider method injection works as expected with each engine.
+   */
+  @Test
+  public void testProviderMethodInjection() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(String.class).toProvider(StringProvider.class).forParams(String.class, Integer.class);
+      }
+    });
+
+    for (ProvisionEngine engine : ProvisionEngine.values()) {
+      ObjectFactory.setProvisionEngine(engine);
+      assertEquals(engine.toString(), "test3", ObjectFactory.getInstance(String.class, "test", 3));
+    }
+  }
+
+  /**
+   * Tests that construction failures are reported with each engine.
+   */
+  @Test
+  public void testConstructionFailure() {
+    for (ProvisionEngine engine : ProvisionEngine.values()) {
+      ObjectFactory.setProvisionEngine(engine);
+
+      try {
+        ObjectFactory.getInstance(FailingTarget.class);
+        fail(engine.toString());
+      } catch (ProvisionException expected) {
+      }
+    }
+  }
+
+  /**
+   * Tests that the engine cannot be null.
+   */
+  @Test(expected = ConfigurationException.class)
+  public void testNullEngine() {
+    ObjectFactory.setProvisionEngine(null);
+  }
+}
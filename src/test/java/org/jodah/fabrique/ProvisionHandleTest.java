@@ -0,0 +1,236 @@
+package org.jodah.fabrique;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests provision handles.
+ */
+public class ProvisionHandleTest {
+  /** Tests handle construction */
+  public static class Point {
+    final int x;
+    final int y;
+    String name = "default";
+
+    /** Creates a new Point object. */
+    @Inject
+    public Point() {
+      this(0, 0);
+    }
+
+    /** Creates a new Point object. */
+    @Inject(optional = true)
+    public Point(int pX, int pY) {
+      x = pX;
+      y = pY;
+    }
+
+    /** Creates a new Point object. */
+    @Inject(optional = true)
+    public Point(String pName) {
+      this(0, 0);
+      name = pName;
+    }
+  }
+
+  /** Tests handle arities around the borrowed argument arrays */
+  public static class Tuple {
+    final Object[] values;
+
+    /** Creates a new Tuple object. */
+    @Inject
+    public Tuple() {
+      values = new Object[0];
+    }
+
+    /** Creates a new Tuple object. */
+    @Inject(optional = true)
+    public Tuple(Integer a) {
+      values = new Object[] { a };
+    }
+
+    /** Creates a new Tuple object. */
+    @Inject(optional = true)
+    public Tuple(Integer a, Integer b, Integer c) {
+      values = new Object[] { a, b, c };
+    }
+
+    /** Creates a new Tuple object. */
+    @Inject(optional = true)
+    public Tuple(Integer a, Integer b, Integer c, Integer d) {
+      values = new Object[] { a, b, c, d };
+    }
+
+    /** Creates a new Tuple object. */
+    @Inject(optional = true)
+    public Tuple(Integer a, Integer b, Integer c, Integer d, Integer e) {
+      values = new Object[] { a, b, c, d, e };
+    }
+  }
+
+  /** Tests handles for types whose default constructor has parameters */
+  public static class Label {
+    final String text;
+    final int size;
+
+    /** Creates a new Label object. */
+    public Label(String text) {
+      this(text, 0);
+    }
+
+    /** Creates a new Label object. */
+    public Label(String text, int size) {
+      this.text = text;
+      this.size = size;
+    }
+  }
+
+  /**
+   * Performs setup.
+   */
+  @Before
+  public void setup() {
+    TestUtil.resetFactoryBindings();
+  }
+
+  /**
+   * Tests that a handle without argument types provides instances as getInstance does.
+   */
+  @Test
+  public void testHandle() {
+    ProvisionHandle<Point> _handle = ObjectFactory.handle(Point.class);
+    assertEquals(Key.get(Point.class), _handle.getKey());
+    assertEquals("default", _handle.get().name);
+    assertEquals("test", _handle.get("test").name);
+    assertNotSame(_handle.get(), _handle.get());
+  }
+
+  /**
+   * Tests that a handle with argument types provides instances with the matching constructor.
+   */
+  @Test
+  public void testHandleWithArgTypes() {
+    ProvisionHandle<Point> _handle = ObjectFactory.handle(Point.class, int.class, int.class);
+    Point _point = _handle.get(Primitives.of(2), Primitives.of(3));
+    assertEquals(2, _point.x);
+    assertEquals(3, _point.y);
+
+    _point = _handle.get(new Object[] { Primitives.of(4), Primitives.of(5) });
+    assertEquals(4, _point.x);
+    assertEquals(5, _point.y);
+  }
+
+  /**
+   * Tests handles with arities below, at and beyond those of the argument arrays borrowed from the
+   * injection context.
+   */
+  @Test
+  public void testHandleArities() {
+    ProvisionHandle<Tuple> _handle = ObjectFactory.handle(Tuple.class);
+    assertArrayEquals(new Object[0], _handle.get().values);
+    assertArrayEquals(new Object[] { 1 }, _handle.get(1).values);
+    assertArrayEquals(new Object[] { 1, 2, 3 }, _handle.get(1, 2, 3).values);
+    assertArrayEquals(new Object[] { 1, 2, 3, 4 }, _handle.get(1, 2, 3, 4).values);
+    assertArrayEquals(new Object[] { 1, 2, 3, 4, 5 }, _handle.get(1, 2, 3, 4, 5).values);
+
+    Class<?>[] _types = { Integer.class, Integer.class, Integer.class, Integer.class,
+        Integer.class };
+    for (int _arity = 0; _arity <= 5; _arity++) {
+      if (_arity == 2)
+        continue;
+      Object[] _args = new Object[_arity];
+      for (int i = 0; i < _arity; i++)
+        _args[i] = i + 1;
+
+      ProvisionHandle<Tuple> _typed = ObjectFactory.handle(Tuple.class,
+          Arrays.copyOf(_types, _arity));
+      assertArrayEquals(_args, _typed.get(_args).values);
+      assertArrayEquals(_args, _typed.get(_args).values);
+      assertArrayEquals(_args, ObjectFactory.getInstance(Tuple.class, _args).values);
+    }
+  }
+
+  /**
+   * Tests that a handle without argument types dispatches on the arguments it is given, including
+   * to optional constructors that differ from the default.
+   */
+  @Test
+  public void testHandleDispatchesOnArguments() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Label.class).forParams(String.class).forOptionalParams(String.class, int.class);
+      }
+    });
+
+    ProvisionHandle<Label> _handle = ObjectFactory.handle(Label.class);
+    assertEquals("text", _handle.get("text").text);
+    Label _label = _handle.get("sized", Primitives.of(3));
+    assertEquals("sized", _label.text);
+    assertEquals(3, _label.size);
+    assertEquals(4, _handle.get(new Object[] { "sized", Primitives.of(4) }).size);
+
+    try {
+      _handle.get(Primitives.of(3));
+      fail("Expected no matching constructor");
+    } catch (ProvisionException expected) {
+    }
+  }
+
+  /**
+   * Tests that a handle with argument types rejects a different number of arguments.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testHandleWithWrongArity() {
+    ObjectFactory.handle(Point.class, String.class).get();
+  }
+
+  /**
+   * Tests that creating a handle for argument types without a matching constructor fails.
+   */
+  @Test(expected = ConfigurationException.class)
+  public void testHandleWithInvalidArgTypes() {
+    ObjectFactory.handle(Point.class, Long.class);
+  }
+
+  /**
+   * Tests that a handle applies its binding's scope.
+   */
+  @Test
+  public void testScopedHandle() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Point.class).in(Scopes.SINGLETON);
+      }
+    });
+
+    ProvisionHandle<Point> _handle = ObjectFactory.handle(Point.class);
+    assertSame(_handle.get(), _handle.get());
+  }
+
+  /**
+   * Tests that a handle resolves its binding again after modules are loaded.
+   */
+  @Test
+  public void testHandleAfterModuleLoad() {
+    ProvisionHandle<Point> _handle = ObjectFactory.handle(Point.class);
+    assertNotSame(_handle.get(), _handle.get());
+
+    final Point _point = new Point("bound");
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Point.class).toInstance(_point);
+      }
+    });
+
+    assertSame(_point, _handle.get());
+  }
+}
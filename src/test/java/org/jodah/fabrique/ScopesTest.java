@@ -1,10 +1,38 @@
 package org.jodah.fabrique;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jodah.fabrique.Scopes.ExpiringScope;
+import org.jodah.fabrique.Scopes.FlyweightScope;
 import org.jodah.fabrique.Scopes.PoolScope;
+import org.jodah.fabrique.Scopes.PoolScope.Leak;
+import org.jodah.fabrique.Scopes.PoolScope.Lease;
+import org.jodah.fabrique.Scopes.PoolScope.Lifecycle;
+import org.jodah.fabrique.Scopes.PoolScope.Metrics;
+import org.jodah.fabrique.Scopes.PoolScope.Overflow;
+import org.jodah.fabrique.Scopes.SharedContextScope;
+import org.jodah.fabrique.Scopes.SoftScope;
+import org.jodah.fabrique.Scopes.StripedScope;
+import org.jodah.fabrique.Scopes.StripedScope.Reducer;
+import org.jodah.fabrique.Scopes.ThreadScope;
+import org.jodah.fabrique.internal.InjectionContext;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -22,6 +50,113 @@ public class ScopesTest {
   public static class TestClass implements ITest {
   }
 
+  /** Records its argument and how many instances are constructed */
+  public static class ArgsClass {
+    static final AtomicInteger constructed = new AtomicInteger();
+    final String value;
+
+    /** Creates a new ArgsClass object. */
+    public ArgsClass(String value) {
+      this.value = value;
+      constructed.incrementAndGet();
+    }
+
+    /** Creates a new ArgsClass object. */
+    public ArgsClass(int code) {
+      this(String.valueOf(code));
+    }
+  }
+
+  /** Counts increments */
+  public static class Counter {
+    final AtomicInteger count = new AtomicInteger();
+  }
+
+  /** Fails construction while failing is set */
+  public static class FlakyClass {
+    static volatile boolean failing;
+
+    /** Creates a new FlakyClass object. */
+    public FlakyClass() {
+      if (failing)
+        throw new IllegalStateException("Construction failed");
+    }
+  }
+
+  /** Scopes objects by a static context */
+  static class ContextScope extends SharedContextScope<Object> {
+    static Object context;
+
+    /** Creates a new ContextScope object. */
+    ContextScope() {
+    }
+
+    /** Creates a new ContextScope object. */
+    ContextScope(int maxContexts) {
+      super(maxContexts);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected Object getContext() {
+      return context;
+    }
+  }
+
+  /** Holds the context it was created in */
+  public static class ContextBound {
+    final Object context = ContextScope.context;
+  }
+
+  /** Closeable test class */
+  public static class CloseableClass implements AutoCloseable {
+    boolean closed;
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close() {
+      closed = true;
+    }
+  }
+
+  /** Singleton whose construction blocks until released */
+  public static class SlowSingleton {
+    static final CountDownLatch constructing = new CountDownLatch(1);
+    static final CountDownLatch release = new CountDownLatch(1);
+
+    /** Creates a new SlowSingleton object. */
+    public SlowSingleton() throws InterruptedException {
+      constructing.countDown();
+      release.await();
+    }
+  }
+
+  /** Singleton that depends on another singleton from a separate thread */
+  public static class CyclicSingletonA {
+    static final CountDownLatch constructing = new CountDownLatch(1);
+
+    /** Creates a new CyclicSingletonA object. */
+    public CyclicSingletonA() throws InterruptedException {
+      constructing.countDown();
+      CyclicSingletonB.constructing.await();
+      ObjectFactory.getInstance(CyclicSingletonB.class);
+    }
+  }
+
+  /** Singleton that depends on another singleton from a separate thread */
+  public static class CyclicSingletonB {
+    static final CountDownLatch constructing = new CountDownLatch(1);
+
+    /** Creates a new CyclicSingletonB object. */
+    public CyclicSingletonB() throws InterruptedException {
+      constructing.countDown();
+      CyclicSingletonA.constructing.await();
+      ObjectFactory.getInstance(CyclicSingletonA.class);
+    }
+  }
+
   /** Test class provider */
   class TestProvider implements Provider<ITest> {
     /**
@@ -39,6 +174,8 @@ public class ScopesTest {
   @Before
   public void setup() {
     TestUtil.resetFactoryBindings();
+    ArgsClass.constructed.set(0);
+    FlakyClass.failing = false;
   }
 
   /**
@@ -100,11 +237,693 @@ public class ScopesTest {
         _instance2);
   }
 
+  /**
+   * Tests that leases return pooled objects when closed and that metrics track them.
+   */
+  @Test
+  public void testPoolLease() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(new PoolScope(2));
+      }
+    });
+
+    TestClass _instance;
+    try (Lease<TestClass> _lease = PoolScope.lease(TestClass.class)) {
+      _instance = _lease.get();
+      Metrics _metrics = PoolScope.metrics(Key.get(TestClass.class));
+      assertEquals(1, _metrics.getBorrowed());
+      assertEquals(0, _metrics.getIdle());
+    }
+
+    Metrics _metrics = PoolScope.metrics(Key.get(TestClass.class));
+    assertEquals(0, _metrics.getBorrowed());
+    assertEquals(1, _metrics.getIdle());
+    assertEquals(1, _metrics.getCreated());
+
+    Lease<TestClass> _lease = PoolScope.lease(TestClass.class);
+    assertSame(_instance, _lease.get());
+    _lease.close();
+    _lease.close();
+    assertEquals(0, PoolScope.metrics(Key.get(TestClass.class)).getBorrowed());
+  }
+
+  /**
+   * Tests the pool scope's acquire timeout and overflow policies.
+   */
+  @Test
+  public void testPoolOverflow() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(new PoolScope(1).withTimeout(10, TimeUnit.MILLISECONDS));
+        bind(ITest.class).to(TestClass.class).in(
+            new PoolScope(1).withTimeout(0, TimeUnit.MILLISECONDS).withOverflow(Overflow.CREATE));
+      }
+    });
+
+    TestClass _pooled = ObjectFactory.getInstance(TestClass.class);
+    try {
+      ObjectFactory.getInstance(TestClass.class);
+      fail("Expected a timeout");
+    } catch (ProvisionException expected) {
+    }
+    assertEquals(1, PoolScope.metrics(Key.get(TestClass.class)).getTimeouts());
+    PoolScope.release(Key.get(TestClass.class), _pooled);
+    assertSame(_pooled, ObjectFactory.getInstance(TestClass.class));
+
+    ITest _first = ObjectFactory.getInstance(ITest.class);
+    ITest _overflow = ObjectFactory.getInstance(ITest.class);
+    assertNotSame(_first, _overflow);
+    PoolScope.release(Key.get(ITest.class), _overflow);
+    PoolScope.release(Key.get(ITest.class), _first);
+
+    Metrics _metrics = PoolScope.metrics(Key.get(ITest.class));
+    assertEquals(1, _metrics.getOverflows());
+    assertEquals(1, _metrics.getCreated());
+    assertEquals(0, _metrics.getBorrowed());
+    assertSame(_first, ObjectFactory.getInstance(ITest.class));
+  }
+
+  /**
+   * Tests that the pool scope rejects double and foreign releases without freeing a slot.
+   */
+  @Test
+  public void testPoolRejectsUnknownRelease() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(new PoolScope(2).withTimeout(0, TimeUnit.MILLISECONDS));
+      }
+    });
+
+    Key<TestClass> _key = Key.get(TestClass.class);
+    TestClass _instance1 = ObjectFactory.getInstance(TestClass.class);
+    TestClass _instance2 = ObjectFactory.getInstance(TestClass.class);
+    PoolScope.release(_key, _instance1);
+
+    try {
+      PoolScope.release(_key, _instance1);
+      fail("Expected a rejected double release");
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      PoolScope.release(_key, new TestClass());
+      fail("Expected a rejected foreign release");
+    } catch (IllegalArgumentException expected) {
+    }
+
+    Metrics _metrics = PoolScope.metrics(_key);
+    assertEquals(1, _metrics.getBorrowed());
+    assertEquals(1, _metrics.getIdle());
+    assertSame(_instance1, ObjectFactory.getInstance(TestClass.class));
+    try {
+      ObjectFactory.getInstance(TestClass.class);
+      fail("Expected the pool to be exhausted");
+    } catch (ProvisionException expected) {
+    }
+
+    PoolScope.release(_key, _instance2);
+    assertSame(_instance2, ObjectFactory.getInstance(TestClass.class));
+  }
+
+  /**
+   * Tests that the pool scope reports objects on loan for longer than the leak threshold.
+   */
+  @Test
+  public void testPoolLeaks() throws Exception {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(
+            new PoolScope(1).withTimeout(0, TimeUnit.MILLISECONDS)
+                .withOverflow(Overflow.CREATE)
+                .withLeakThreshold(20, TimeUnit.MILLISECONDS));
+        bind(ITest.class).to(TestClass.class).in(new PoolScope(1));
+      }
+    });
+
+    Key<TestClass> _key = Key.get(TestClass.class);
+    TestClass _pooled = ObjectFactory.getInstance(TestClass.class);
+    assertTrue(PoolScope.leaks(_key).isEmpty());
+    Thread.sleep(25);
+    TestClass _overflow = ObjectFactory.getInstance(TestClass.class);
+    TestClass _released = ObjectFactory.getInstance(TestClass.class);
+    PoolScope.release(_key, _released);
+    Thread.sleep(25);
+
+    List<Leak> _leaks = PoolScope.leaks(_key);
+    assertEquals(2, _leaks.size());
+    assertSame(_pooled, _leaks.get(0).getObject());
+    assertSame(_overflow, _leaks.get(1).getObject());
+    assertTrue(_leaks.get(0).getAge(TimeUnit.MILLISECONDS) >= 45);
+    assertEquals(Thread.currentThread().getName(), _leaks.get(0).getThread());
+    assertEquals(1, PoolScope.metrics(_key).getBorrowed());
+
+    PoolScope.release(_key, _pooled);
+    PoolScope.release(_key, _overflow);
+    assertTrue(PoolScope.leaks(_key).isEmpty());
+    assertEquals(0, PoolScope.metrics(_key).getBorrowed());
+
+    ObjectFactory.getInstance(ITest.class);
+    Thread.sleep(5);
+    assertTrue(PoolScope.leaks(Key.get(ITest.class)).isEmpty());
+  }
+
+  /**
+   * Tests that the pool scope validates and resets pooled objects.
+   */
+  @Test
+  public void testPoolLifecycle() {
+    final List<Object> _reset = new ArrayList<Object>();
+    final AtomicInteger _validations = new AtomicInteger();
+
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(new PoolScope(1).withLifecycle(new Lifecycle() {
+          public boolean validate(Key<?> key, Object object) {
+            return _validations.incrementAndGet() > 1;
+          }
+
+          public void reset(Key<?> key, Object object) {
+            _reset.add(object);
+          }
+        }));
+      }
+    });
+
+    TestClass _instance1 = ObjectFactory.getInstance(TestClass.class);
+    PoolScope.release(Key.get(TestClass.class), _instance1);
+    assertEquals(1, _reset.size());
+    assertSame(_instance1, _reset.get(0));
+
+    TestClass _instance2 = ObjectFactory.getInstance(TestClass.class);
+    assertNotSame(_instance1, _instance2);
+    PoolScope.release(Key.get(TestClass.class), _instance2);
+    assertSame(_instance2, ObjectFactory.getInstance(TestClass.class));
+    assertEquals(1, PoolScope.metrics(Key.get(TestClass.class)).getDiscarded());
+  }
+
+  /**
+   * Tests that the pool scope bounds the number of pooled objects under concurrent use.
+   */
+  @Test(timeout = 30000)
+  public void testPoolConcurrency() throws Throwable {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(new PoolScope(3));
+      }
+    });
+
+    final AtomicInteger _failures = new AtomicInteger();
+    Thread[] _threads = new Thread[8];
+
+    for (int i = 0; i < _threads.length; i++) {
+      _threads[i] = new Thread() {
+        public void run() {
+          for (int j = 0; j < 2000; j++) {
+            try (Lease<TestClass> _lease = PoolScope.lease(TestClass.class)) {
+              if (_lease.get() == null)
+                _failures.incrementAndGet();
+            } catch (RuntimeException e) {
+              _failures.incrementAndGet();
+            }
+          }
+        }
+      };
+      _threads[i].start();
+    }
+
+    for (Thread _thread : _threads)
+      _thread.join();
+
+    Metrics _metrics = PoolScope.metrics(Key.get(TestClass.class));
+    assertEquals(0, _failures.get());
+    assertTrue(_metrics.toString(), _metrics.getCreated() <= 3);
+    assertEquals(0, _metrics.getBorrowed());
+    assertEquals(16000, _metrics.getAcquisitions());
+  }
+
+  /**
+   * Tests that the shared context scope scopes objects per context and releases closed contexts.
+   */
+  @Test
+  public void testSharedContextScope() {
+    final ContextScope _scope = new ContextScope();
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(_scope);
+      }
+    });
+
+    ContextScope.context = "a";
+    TestClass _a = ObjectFactory.getInstance(TestClass.class);
+    assertSame(_a, ObjectFactory.getInstance(TestClass.class));
+    ContextScope.context = new String("a");
+    assertSame(_a, ObjectFactory.getInstance(TestClass.class));
+
+    ContextScope.context = "b";
+    TestClass _b = ObjectFactory.getInstance(TestClass.class);
+    assertNotSame(_a, _b);
+    assertEquals(2, _scope.residentContexts());
+
+    _scope.close("a");
+    assertEquals(1, _scope.residentContexts());
+    ContextScope.context = "a";
+    assertNotSame(_a, ObjectFactory.getInstance(TestClass.class));
+  }
+
+  /**
+   * Tests that a bounded shared context scope evicts contexts in creation order, regardless of use.
+   */
+  @Test
+  public void testSharedContextScopeBounded() {
+    final ContextScope _scope = new ContextScope(2);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(_scope);
+      }
+    });
+
+    ContextScope.context = "a";
+    TestClass _a = ObjectFactory.getInstance(TestClass.class);
+    ContextScope.context = "b";
+    TestClass _b = ObjectFactory.getInstance(TestClass.class);
+    ContextScope.context = "c";
+    TestClass _c = ObjectFactory.getInstance(TestClass.class);
+    assertEquals(2, _scope.residentContexts());
+
+    ContextScope.context = "b";
+    assertSame(_b, ObjectFactory.getInstance(TestClass.class));
+    ContextScope.context = "a";
+    assertNotSame(_a, ObjectFactory.getInstance(TestClass.class));
+    ContextScope.context = "c";
+    assertSame(_c, ObjectFactory.getInstance(TestClass.class));
+    ContextScope.context = "b";
+    assertNotSame(_b, ObjectFactory.getInstance(TestClass.class));
+
+    for (int i = 0; i < 10; i++) {
+      ContextScope.context = "closed" + i;
+      ObjectFactory.getInstance(TestClass.class);
+      _scope.close((String) ContextScope.context);
+    }
+    assertEquals(1, _scope.residentContexts());
+  }
+
+  /**
+   * Tests that the shared context scope releases the objects of garbage collected contexts.
+   */
+  @Test
+  public void testSharedContextScopeWeakContexts() throws InterruptedException {
+    final ContextScope _scope = new ContextScope();
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(_scope);
+      }
+    });
+
+    ContextScope.context = new Object();
+    ObjectFactory.getInstance(TestClass.class);
+    assertEquals(1, _scope.residentContexts());
+
+    ContextScope.context = null;
+    for (int i = 0; i < 100 && _scope.residentContexts() > 0; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertEquals(0, _scope.residentContexts());
+  }
+
+  /**
+   * Tests that a context referenced by its own scoped objects is not released by garbage
+   * collection, but is released by eviction.
+   */
+  @Test
+  public void testSharedContextScopeSelfReferencingContexts() throws InterruptedException {
+    final ContextScope _scope = new ContextScope(1);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(ContextBound.class).in(_scope);
+      }
+    });
+
+    ContextScope.context = new Object();
+    ObjectFactory.getInstance(ContextBound.class);
+    ContextScope.context = null;
+    for (int i = 0; i < 10; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertEquals(1, _scope.residentContexts());
+
+    ContextScope.context = new Object();
+    ContextBound _bound = ObjectFactory.getInstance(ContextBound.class);
+    assertSame(ContextScope.context, _bound.context);
+    assertEquals(1, _scope.residentContexts());
+  }
+
+  /**
+   * Tests that expiring scope rebuilds objects once they expire, or when expired manually.
+   */
+  @Test
+  public void testExpiringScope() throws InterruptedException {
+    final ExpiringScope _scope = new ExpiringScope(100, TimeUnit.MILLISECONDS);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(_scope);
+      }
+    });
+
+    TestClass _instance1 = ObjectFactory.getInstance(TestClass.class);
+    assertSame(_instance1, ObjectFactory.getInstance(TestClass.class));
+
+    Thread.sleep(150);
+    TestClass _instance2 = ObjectFactory.getInstance(TestClass.class);
+    assertNotSame(_instance1, _instance2);
+    assertSame(_instance2, ObjectFactory.getInstance(TestClass.class));
+
+    _scope.expire(Key.get(TestClass.class));
+    assertNotSame(_instance2, ObjectFactory.getInstance(TestClass.class));
+  }
+
+  /**
+   * Tests that expiring scope refreshes objects in the background, continuing to provide the
+   * current object until the refreshed object is built.
+   */
+  @Test
+  public void testExpiringScopeRefreshAhead() throws InterruptedException {
+    final List<Runnable> _tasks = new ArrayList<Runnable>();
+    final ExpiringScope _scope = new ExpiringScope(1, TimeUnit.HOURS)
+        .withRefreshAfter(50, TimeUnit.MILLISECONDS).withJitter(0).withExecutor(new Executor() {
+          public void execute(Runnable command) {
+            _tasks.add(command);
+          }
+        });
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(_scope);
+      }
+    });
+
+    TestClass _instance1 = ObjectFactory.getInstance(TestClass.class);
+    Thread.sleep(100);
+    assertSame(_instance1, ObjectFactory.getInstance(TestClass.class));
+    assertSame(_instance1, ObjectFactory.getInstance(TestClass.class));
+    assertEquals(1, _tasks.size());
+
+    _tasks.remove(0).run();
+    TestClass _instance2 = ObjectFactory.getInstance(TestClass.class);
+    assertNotSame(_instance1, _instance2);
+    assertTrue(_tasks.isEmpty());
+
+    _scope.refresh(Key.get(TestClass.class));
+    assertEquals(1, _tasks.size());
+    _tasks.remove(0).run();
+    assertNotSame(_instance2, ObjectFactory.getInstance(TestClass.class));
+  }
+
+  /**
+   * Tests that a background refresh does not replace an object rebuilt after it was submitted,
+   * and that a failed refresh is not retried on every retrieval.
+   */
+  @Test
+  public void testExpiringScopeRefreshConflicts() throws InterruptedException {
+    final List<Runnable> _tasks = new ArrayList<Runnable>();
+    final ExpiringScope _scope = new ExpiringScope(1, TimeUnit.HOURS)
+        .withRefreshAfter(50, TimeUnit.MILLISECONDS).withJitter(0).withExecutor(new Executor() {
+          public void execute(Runnable command) {
+            _tasks.add(command);
+          }
+        });
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(FlakyClass.class).in(_scope);
+      }
+    });
+
+    FlakyClass _instance1 = ObjectFactory.getInstance(FlakyClass.class);
+    Thread.sleep(100);
+    assertSame(_instance1, ObjectFactory.getInstance(FlakyClass.class));
+    assertEquals(1, _tasks.size());
+
+    _scope.expire(Key.get(FlakyClass.class));
+    FlakyClass _instance2 = ObjectFactory.getInstance(FlakyClass.class);
+    assertNotSame(_instance1, _instance2);
+    _tasks.remove(0).run();
+    assertSame(_instance2, ObjectFactory.getInstance(FlakyClass.class));
+
+    Thread.sleep(100);
+    assertSame(_instance2, ObjectFactory.getInstance(FlakyClass.class));
+    assertEquals(1, _tasks.size());
+    FlakyClass.failing = true;
+    _tasks.remove(0).run();
+    assertSame(_instance2, ObjectFactory.getInstance(FlakyClass.class));
+    assertSame(_instance2, ObjectFactory.getInstance(FlakyClass.class));
+    assertTrue(_tasks.isEmpty());
+  }
+
+  /**
+   * Tests that soft scope provides a single object per binding and reports its statistics.
+   */
+  @Test
+  public void testSoftScope() {
+    final SoftScope _scope = new SoftScope(1);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(ITest.class).to(TestClass.class).in(_scope);
+        bind(TestClass.class).in(Scopes.SOFT);
+      }
+    });
+
+    ITest _instance = ObjectFactory.getInstance(ITest.class);
+    assertSame(_instance, ObjectFactory.getInstance(ITest.class));
+    assertSame(ObjectFactory.getInstance(TestClass.class),
+        ObjectFactory.getInstance(TestClass.class));
+
+    SoftScope.Stats _stats = _scope.stats(Key.get(ITest.class));
+    assertEquals(1, _stats.getBuilds());
+    assertEquals(0, _stats.getEvictions());
+    assertEquals(0, _stats.getRebuilds());
+    assertEquals(1, _scope.stats().getBuilds());
+
+    try {
+      _scope.stats(Key.get(TestClass.class));
+      fail();
+    } catch (ConfigurationException expected) {
+    }
+
+    try {
+      new SoftScope(1.5);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  /**
+   * Tests that flyweight scope shares objects between requests with equal arguments, and evicts
+   * the least recently used objects once full.
+   */
+  @Test
+  public void testFlyweightScope() {
+    final FlyweightScope _scope = new FlyweightScope(4);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(ArgsClass.class).forParams(String.class).in(_scope);
+      }
+    });
+
+    ArgsClass _usd = ObjectFactory.getInstance(ArgsClass.class, "USD");
+    assertSame(_usd, ObjectFactory.getInstance(ArgsClass.class, new String("USD")));
+    assertEquals("USD", _usd.value);
+    ArgsClass _eur = ObjectFactory.getInstance(ArgsClass.class, "EUR");
+    assertNotSame(_usd, _eur);
+    assertEquals("EUR", _eur.value);
+    assertEquals(2, ArgsClass.constructed.get());
+
+    for (int i = 0; i < 4; i++) {
+      ObjectFactory.getInstance(ArgsClass.class, "USD");
+      ObjectFactory.getInstance(ArgsClass.class, "other" + i);
+    }
+
+    assertTrue(_scope.cachedInstances(Key.get(ArgsClass.class)) <= 4);
+    assertSame(_usd, ObjectFactory.getInstance(ArgsClass.class, "USD"));
+    assertNotSame(_eur, ObjectFactory.getInstance(ArgsClass.class, "EUR"));
+  }
+
+  /**
+   * Tests that flyweight scope caches objects for primitive arguments that are not cached by
+   * {@link Primitives}.
+   */
+  @Test
+  public void testFlyweightScopePrimitives() {
+    final FlyweightScope _scope = new FlyweightScope(4);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(ArgsClass.class).forParams(String.class).forOptionalParams(int.class).in(_scope);
+      }
+    });
+
+    ArgsClass _instance = ObjectFactory.getInstance(ArgsClass.class, Primitives.of(500));
+    assertSame(_instance, ObjectFactory.getInstance(ArgsClass.class, Primitives.of(500)));
+    assertSame(_instance, ObjectFactory.getInstance(ArgsClass.class, Primitives.of(500)));
+    assertEquals("500", _instance.value);
+    assertEquals(1, ArgsClass.constructed.get());
+
+    assertNotSame(_instance, ObjectFactory.getInstance(ArgsClass.class, Primitives.of(501)));
+    assertNotSame(_instance, ObjectFactory.getInstance(ArgsClass.class, "500"));
+    assertEquals(3, _scope.cachedInstances(Key.get(ArgsClass.class)));
+    assertSame(_instance, ObjectFactory.getInstance(ArgsClass.class, Primitives.of(500)));
+    assertEquals(3, ArgsClass.constructed.get());
+  }
+
+  /**
+   * Tests that a scope retaining the explicit arguments it is given is not affected by the reuse of
+   * borrowed argument arrays.
+   */
+  @Test
+  public void testScopeRetainsArguments() {
+    final List<Object[]> _retained = new ArrayList<Object[]>();
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(ArgsClass.class).forParams(String.class).in(new Scope() {
+          public <T> Provider<T> scope(Key<T> key, final Provider<T> unscoped) {
+            return new Provider<T>() {
+              public T get() {
+                InjectionContext _context = InjectionContext.current();
+                Object[] _args = _context.copyScopeArguments();
+                assertTrue(_context.scopeArgumentsEqual(_args));
+                assertEquals(Arrays.hashCode(_args), _context.scopeArgumentsHash());
+                _retained.add(_args);
+                return unscoped.get();
+              }
+            };
+          }
+        });
+      }
+    });
+
+    assertEquals("USD", ObjectFactory.getInstance(ArgsClass.class, "USD").value);
+    assertEquals("EUR", ObjectFactory.getInstance(ArgsClass.class, "EUR").value);
+    assertArrayEquals(new Object[] { "USD" }, _retained.get(0));
+    assertArrayEquals(new Object[] { "EUR" }, _retained.get(1));
+  }
+
+  /**
+   * Tests that a scoped binding provided without arguments while a scope is handling an enclosing
+   * provision's arguments does not see those arguments.
+   */
+  @Test
+  public void testNestedScopeArguments() {
+    final List<Object[]> _retained = new ArrayList<Object[]>();
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(TestClass.class).in(new Scope() {
+          public <T> Provider<T> scope(Key<T> key, final Provider<T> unscoped) {
+            return new Provider<T>() {
+              public T get() {
+                _retained.add(InjectionContext.current().copyScopeArguments());
+                return unscoped.get();
+              }
+            };
+          }
+        });
+        bind(ArgsClass.class).forParams(String.class).in(new Scope() {
+          public <T> Provider<T> scope(Key<T> key, final Provider<T> unscoped) {
+            return new Provider<T>() {
+              public T get() {
+                ObjectFactory.getInstance(TestClass.class);
+                return unscoped.get();
+              }
+            };
+          }
+        });
+      }
+    });
+
+    assertEquals("USD", ObjectFactory.getInstance(ArgsClass.class, "USD").value);
+    assertEquals(1, _retained.size());
+    assertNull(_retained.get(0));
+  }
+
+  /**
+   * Tests that flyweight scope constructs a single object for concurrent requests with equal
+   * arguments.
+   */
+  @Test(timeout = 10000)
+  public void testFlyweightScopeSingleFlight() throws Throwable {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(ArgsClass.class).forParams(String.class).in(new FlyweightScope(16));
+      }
+    });
+
+    final CountDownLatch _start = new CountDownLatch(1);
+    final List<ArgsClass> _instances = Collections.synchronizedList(new ArrayList<ArgsClass>());
+    Thread[] _threads = new Thread[8];
+    for (int i = 0; i < _threads.length; i++) {
+      _threads[i] = new Thread() {
+        public void run() {
+          try {
+            _start.await();
+            _instances.add(ObjectFactory.getInstance(ArgsClass.class, "USD"));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      };
+      _threads[i].start();
+    }
+
+    _start.countDown();
+    for (Thread _thread : _threads)
+      _thread.join();
+
+    assertEquals(_threads.length, _instances.size());
+    for (ArgsClass _instance : _instances)
+      assertSame(_instances.get(0), _instance);
+    assertEquals(1, ArgsClass.constructed.get());
+  }
+
+  /**
+   * Tests that striped scope hands threads replicas of a binding and reduces them to one view.
+   */
+  @Test
+  public void testStripedScope() throws Throwable {
+    final StripedScope _scope = new StripedScope(4);
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(Counter.class).in(_scope);
+      }
+    });
+
+    assertSame(ObjectFactory.getInstance(Counter.class), ObjectFactory.getInstance(Counter.class));
+
+    Thread[] _threads = new Thread[8];
+    for (int i = 0; i < _threads.length; i++) {
+      _threads[i] = new Thread() {
+        public void run() {
+          for (int j = 0; j < 100; j++)
+            ObjectFactory.getInstance(Counter.class).count.incrementAndGet();
+        }
+      };
+      _threads[i].start();
+    }
+
+    for (Thread _thread : _threads)
+      _thread.join();
+
+    List<Counter> _replicas = _scope.replicas(Key.get(Counter.class));
+    assertTrue(_replicas.size() >= 1 && _replicas.size() <= 4);
+    long _total = _scope.reduce(Key.get(Counter.class), 0L, new Reducer<Counter, Long>() {
+      public Long reduce(Long result, Counter counter) {
+        return result + counter.count.get();
+      }
+    });
+    assertEquals(800, _total);
+  }
+
   /**
    * Tests that thread scope works as expected.
    */
   @Test
-  public void testThreadScope() {
+  public void testThreadScope() throws InterruptedException {
     ObjectFactory.loadModules(new AbstractModule() {
       protected void configure() {
         bind(ITest.class).to(TestClass.class).in(Scopes.THREAD);
@@ -117,14 +936,267 @@ public class ScopesTest {
     assertEquals("Thread scoped binding does not produce identical instances for the same thread",
         _instance1, _instance2);
 
+    final AtomicReference<Object> _result = new AtomicReference<Object>();
     Thread _thread = new Thread() {
       public void run() {
-        assertNotSame("Thread scoped binding produces identical instance in separate thread",
-            _instance1, ObjectFactory.getInstance(ITest.class));
+        try {
+          _result.set(ObjectFactory.getInstance(ITest.class));
+        } catch (RuntimeException e) {
+          _result.set(e);
+        }
       }
     };
 
-    _thread.setUncaughtExceptionHandler(Thread.getDefaultUncaughtExceptionHandler());
     _thread.start();
+    _thread.join();
+    assertTrue("Thread scoped binding failed in separate thread: " + _result.get(),
+        _result.get() instanceof ITest);
+    assertNotSame("Thread scoped binding produces identical instance in separate thread",
+        _instance1, _result.get());
+  }
+
+  /**
+   * Tests that many thread scoped bindings each retain their own instance.
+   */
+  @Test
+  public void testThreadScopeWithManyBindings() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        for (int i = 0; i < 40; i++)
+          bind(TestClass.class).as("thread" + i).in(Scopes.THREAD);
+      }
+    });
+
+    TestClass[] _instances = new TestClass[40];
+    for (int i = 0; i < _instances.length; i++)
+      _instances[i] = ObjectFactory.getNamedInstance(TestClass.class, "thread" + i);
+
+    for (int i = 0; i < _instances.length; i++) {
+      assertSame(_instances[i], ObjectFactory.getNamedInstance(TestClass.class, "thread" + i));
+      if (i > 0)
+        assertNotSame(_instances[i - 1], _instances[i]);
+    }
+  }
+
+  /**
+   * Tests that concurrent provisions of a scoped binding each apply their own explicit arguments.
+   */
+  @Test
+  public void testThreadScopeWithArgs() throws Throwable {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(String.class).forParams(String.class).in(Scopes.THREAD);
+      }
+    });
+
+    final CountDownLatch _start = new CountDownLatch(1);
+    final AtomicInteger _mismatches = new AtomicInteger();
+    Thread[] _threads = new Thread[8];
+
+    for (int i = 0; i < _threads.length; i++) {
+      final String _arg = "test" + i;
+      _threads[i] = new Thread() {
+        public void run() {
+          try {
+            _start.await();
+            for (int j = 0; j < 100; j++)
+              if (!_arg.equals(ObjectFactory.getInstance(String.class, _arg)))
+                _mismatches.incrementAndGet();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+      };
+      _threads[i].start();
+    }
+
+    _start.countDown();
+    for (Thread _thread : _threads)
+      _thread.join();
+
+    assertEquals(0, _mismatches.get());
+    assertEquals("main", ObjectFactory.getInstance(String.class, "main"));
+    assertEquals("main", ObjectFactory.getInstance(String.class, "other"));
+  }
+
+  /**
+   * Tests that a slow singleton does not block the initialization of unrelated singletons.
+   */
+  @Test(timeout = 10000)
+  public void testIndependentSingletons() throws Throwable {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(SlowSingleton.class).asSingleton();
+        bind(TestClass.class).asSingleton();
+      }
+    });
+
+    final Object[] _slow = new Object[1];
+    Thread _thread = new Thread() {
+      public void run() {
+        _slow[0] = ObjectFactory.getInstance(SlowSingleton.class);
+      }
+    };
+    _thread.start();
+
+    assertTrue(SlowSingleton.constructing.await(5, TimeUnit.SECONDS));
+    assertEquals(ObjectFactory.getInstance(TestClass.class),
+        ObjectFactory.getInstance(TestClass.class));
+
+    SlowSingleton.release.countDown();
+    _thread.join();
+    assertEquals(_slow[0], ObjectFactory.getInstance(SlowSingleton.class));
+  }
+
+  /**
+   * Tests that singletons which await each other from separate threads fail rather than deadlock.
+   */
+  @Test(timeout = 10000)
+  public void testCyclicSingletonsAcrossThreads() throws Throwable {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(CyclicSingletonA.class).asSingleton();
+        bind(CyclicSingletonB.class).asSingleton();
+      }
+    });
+
+    final AtomicInteger _failures = new AtomicInteger();
+    Thread[] _threads = { new Thread() {
+      public void run() {
+        try {
+          ObjectFactory.getInstance(CyclicSingletonA.class);
+        } catch (RuntimeException e) {
+          _failures.incrementAndGet();
+        }
+      }
+    }, new Thread() {
+      public void run() {
+        try {
+          ObjectFactory.getInstance(CyclicSingletonB.class);
+        } catch (RuntimeException e) {
+          _failures.incrementAndGet();
+        }
+      }
+    } };
+
+    for (Thread _thread : _threads)
+      _thread.start();
+    for (Thread _thread : _threads) {
+      _thread.join(5000);
+      assertFalse(_thread.isAlive());
+    }
+
+    assertEquals(2, _failures.get());
+  }
+
+  /**
+   * Tests that clearing and closing the thread scope releases the current thread's objects.
+   */
+  @Test
+  public void testThreadScopeClearAndClose() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(CloseableClass.class).in(Scopes.THREAD);
+      }
+    });
+
+    CloseableClass _instance1 = ObjectFactory.getInstance(CloseableClass.class);
+    ThreadScope.clear();
+    CloseableClass _instance2 = ObjectFactory.getInstance(CloseableClass.class);
+    assertNotSame(_instance1, _instance2);
+    assertFalse(_instance1.closed);
+
+    ThreadScope.close(ThreadScope.Disposer.CLOSE);
+    assertTrue(_instance2.closed);
+    assertNotSame(_instance2, ObjectFactory.getInstance(CloseableClass.class));
+    ThreadScope.clear();
+  }
+
+  /**
+   * Tests that a thread scope executor releases and disposes of each task's objects without
+   * disturbing those of an enclosing task on the same thread.
+   */
+  @Test
+  public void testThreadScopeExecutor() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(CloseableClass.class).in(Scopes.THREAD);
+      }
+    });
+
+    final List<Object> _disposed = new ArrayList<Object>();
+    final List<CloseableClass> _instances = new ArrayList<CloseableClass>();
+    Executor _executor = ThreadScope.executor(new Executor() {
+      public void execute(Runnable task) {
+        task.run();
+      }
+    }, new ThreadScope.Disposer() {
+      public void dispose(Key<?> key, Object object) {
+        assertEquals(Key.get(CloseableClass.class), key);
+        _disposed.add(object);
+      }
+    });
+
+    CloseableClass _enclosing = ObjectFactory.getInstance(CloseableClass.class);
+    for (int i = 0; i < 2; i++)
+      _executor.execute(new Runnable() {
+        public void run() {
+          _instances.add(ObjectFactory.getInstance(CloseableClass.class));
+          assertSame(_instances.get(_instances.size() - 1),
+              ObjectFactory.getInstance(CloseableClass.class));
+        }
+      });
+
+    assertEquals(_instances, _disposed);
+    assertNotSame(_instances.get(0), _instances.get(1));
+    assertNotSame(_enclosing, _instances.get(0));
+    assertSame(_enclosing, ObjectFactory.getInstance(CloseableClass.class));
+    ThreadScope.clear();
+  }
+
+  /**
+   * Tests that a failure to dispose of a task's objects does not mask the task's own failure.
+   */
+  @Test
+  public void testThreadScopeExecutorDisposalFailure() {
+    ObjectFactory.loadModules(new AbstractModule() {
+      protected void configure() {
+        bind(CloseableClass.class).in(Scopes.THREAD);
+      }
+    });
+
+    Executor _executor = ThreadScope.executor(new Executor() {
+      public void execute(Runnable task) {
+        task.run();
+      }
+    }, new ThreadScope.Disposer() {
+      public void dispose(Key<?> key, Object object) {
+        throw new IllegalStateException("dispose");
+      }
+    });
+
+    try {
+      _executor.execute(new Runnable() {
+        public void run() {
+          ObjectFactory.getInstance(CloseableClass.class);
+          throw new UnsupportedOperationException("task");
+        }
+      });
+      fail();
+    } catch (UnsupportedOperationException e) {
+      assertEquals("task", e.getMessage());
+      assertEquals(1, e.getSuppressed().length);
+      assertTrue(e.getSuppressed()[0] instanceof ProvisionException);
+    }
+
+    try {
+      _executor.execute(new Runnable() {
+        public void run() {
+          ObjectFactory.getInstance(CloseableClass.class);
+        }
+      });
+      fail();
+    } catch (ProvisionException expected) {
+    }
   }
 }
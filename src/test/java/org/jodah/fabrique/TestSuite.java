@@ -1,6 +1,7 @@
 package org.jodah.fabrique;
 
 import org.jodah.fabrique.Examples;
+import org.jodah.fabrique.internal.InvokersTest;
 import org.jodah.fabrique.matcher.MatcherTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -17,12 +18,16 @@ import org.junit.runners.Suite;
 	BindingParamsTest.class, 
 	ObjectFactoryTest.class, 
 	InjectionTest.class,
+	InvokersTest.class,
 	JitBindingTest.class,
 	KeyTest.class, 
 	MatcherTest.class,
 	ModuleTest.class, 
 	NamedBindingTest.class,
 	PrimitivesTest.class,
+	ProvisionEngineTest.class,
+	ProvisionHandleTest.class,
+	FactoryInterfaceTest.class,
 	ProviderTest.class, 
 	ScopesTest.class, 
 	Examples.class,
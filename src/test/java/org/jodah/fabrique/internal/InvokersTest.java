@@ -0,0 +1,186 @@
+package org.jodah.fabrique.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.jodah.fabrique.Inject;
+import org.jodah.fabrique.Primitives;
+import org.jodah.fabrique.ProvisionEngine;
+import org.jodah.fabrique.TestUtil;
+import org.jodah.fabrique.internal.ConstructorProxies.DefaultConstructor;
+import org.jodah.fabrique.internal.ConstructorProxies.FastConstructorProxy;
+import org.jodah.fabrique.internal.ConstructorProxies.LambdaConstructor;
+import org.jodah.fabrique.internal.ConstructorProxies.MethodHandleConstructor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link Invokers} and the constructor proxies selected by {@link ConstructorProxies}.
+ */
+public class InvokersTest {
+  /** Public target that can be linked through spun classes */
+  public static class PublicTarget {
+    @Inject
+    public String value;
+    public int count;
+
+    /** Creates a new PublicTarget object. */
+    public PublicTarget() {
+    }
+
+    /** Creates a new PublicTarget object. */
+    public PublicTarget(String value, int count) {
+      this.value = value;
+      this.count = count;
+    }
+
+    /** Sets the value */
+    public void setValue(String value) {
+      this.value = value;
+    }
+
+    /** Gets a description */
+    public String describe(String prefix, int number) {
+      return prefix + value + number;
+    }
+
+    /** Fails */
+    public void fail(String message) {
+      throw new IllegalStateException(message);
+    }
+  }
+
+  /** Package private target that can only be invoked through method handles */
+  static class HiddenTarget {
+    String value;
+
+    /** Creates a new HiddenTarget object. */
+    HiddenTarget(String value) {
+      this.value = value;
+    }
+
+    /** Sets the value */
+    void setValue(String value) {
+      this.value = value;
+    }
+  }
+
+  /**
+   * Performs setup.
+   */
+  @Before
+  public void setup() {
+    TestUtil.resetFactoryBindings();
+  }
+
+  /**
+   * Restores the default engine.
+   */
+  @After
+  public void tearDown() {
+    Invokers.setEngine(ProvisionEngine.GENERATED);
+  }
+
+  /**
+   * Tests that each engine selects its own invokers rather than falling back to reflection.
+   */
+  @Test
+  public void testEngineSelection() throws Exception {
+    Method setter = PublicTarget.class.getMethod("setValue", String.class);
+    Method hiddenSetter = HiddenTarget.class.getDeclaredMethod("setValue", String.class);
+    hiddenSetter.setAccessible(true);
+    Constructor<PublicTarget> constructor = PublicTarget.class.getConstructor(String.class,
+        int.class);
+    Constructor<HiddenTarget> hiddenConstructor = HiddenTarget.class
+        .getDeclaredConstructor(String.class);
+    hiddenConstructor.setAccessible(true);
+    Field field = PublicTarget.class.getField("value");
+
+    Invokers.setEngine(ProvisionEngine.METHOD_HANDLE);
+    assertTrue(Invokers.invokerFor(setter) instanceof Invokers.LambdaMethodInvoker);
+    assertTrue(Invokers.invokerFor(hiddenSetter) instanceof Invokers.HandleMethodInvoker);
+    assertTrue(ConstructorProxies.proxyFor(constructor) instanceof LambdaConstructor);
+    assertTrue(ConstructorProxies.proxyFor(hiddenConstructor) instanceof MethodHandleConstructor);
+    assertTrue(Invokers.setterFor(field) instanceof Invokers.HandleFieldSetter);
+
+    Invokers.setEngine(ProvisionEngine.GENERATED);
+    assertTrue(Invokers.invokerFor(setter) instanceof Invokers.GeneratedMethodInvoker);
+    assertTrue(ConstructorProxies.proxyFor(constructor) instanceof FastConstructorProxy);
+    assertTrue(Invokers.setterFor(field) instanceof Invokers.GeneratedFieldSetter);
+
+    Invokers.setEngine(ProvisionEngine.REFLECTION);
+    assertTrue(Invokers.invokerFor(setter) instanceof Invokers.ReflectiveMethodInvoker);
+    assertTrue(ConstructorProxies.proxyFor(constructor) instanceof DefaultConstructor);
+    assertTrue(Invokers.setterFor(field) instanceof Invokers.ReflectiveFieldSetter);
+  }
+
+  /**
+   * Tests that spun invokers pass arguments, including primitives, through to their members.
+   */
+  @Test
+  public void testLambdaInvocation() throws Exception {
+    Invokers.setEngine(ProvisionEngine.METHOD_HANDLE);
+    PublicTarget target = ConstructorProxies.proxyFor(
+        PublicTarget.class.getConstructor(String.class, int.class)).newInstance("a",
+        Primitives.of(3));
+    assertEquals("a", target.value);
+    assertEquals(3, target.count);
+
+    Invokers.invokerFor(PublicTarget.class.getMethod("setValue", String.class)).invoke(target,
+        new Object[] { "b" });
+    assertEquals("p-b7", Invokers.invokerFor(
+        PublicTarget.class.getMethod("describe", String.class, int.class)).invoke(target,
+        new Object[] { "p-", 7 }));
+  }
+
+  /**
+   * Tests that only exceptions thrown by the member itself are reported as invocation target
+   * exceptions, while mismatched arguments are reported as they are by reflection.
+   */
+  @Test
+  public void testExceptions() throws Exception {
+    Invokers.setEngine(ProvisionEngine.METHOD_HANDLE);
+    PublicTarget target = new PublicTarget();
+    Invokers.MethodInvoker failing = Invokers.invokerFor(PublicTarget.class.getMethod("fail",
+        String.class));
+
+    try {
+      failing.invoke(target, new Object[] { "failed" });
+      fail();
+    } catch (InvocationTargetException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    try {
+      failing.invoke(target, new Object[] { 5 });
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      failing.invoke(target, new Object[] { "a", "b" });
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      ConstructorProxies.proxyFor(PublicTarget.class.getConstructor(String.class, int.class))
+          .newInstance("a", null);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+
+    try {
+      Invokers.setterFor(PublicTarget.class.getField("count")).set(target, "a");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+}